@@ -0,0 +1,72 @@
+package com.github.distributedjobscheduler.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Job.Builder} copying and the JSON serialization performed for every dispatch
+ * (the dispatcher's WebClient encodes the job with the same Jackson setup).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobCopyBenchmark {
+
+    @Param({"0", "10", "1000"})
+    int payloadFields;
+
+    private Job job;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> payload = new HashMap<>();
+        for (int i = 0; i < payloadFields; i++) {
+            payload.put("field-" + i, "value-" + i);
+        }
+        job = Job.builder("job-1", "render invoice", "pdf")
+                .payload(payload)
+                .requiredCapabilities(List.of("pdf", "large-memory"))
+                .idempotencyKey("invoice-42")
+                .build();
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+    }
+
+    @Benchmark
+    public Job copy() {
+        return job.toBuilder().build();
+    }
+
+    @Benchmark
+    public Job copyWithRetry() {
+        return job.toBuilder().status(JobStatus.RETRY).retryCount(job.getRetryCount() + 1).build();
+    }
+
+    @Benchmark
+    public byte[] serializeForDispatch() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(job);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.distributedjobscheduler.benchmark;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the scheduler's per-poll storage scan as the number of stored jobs grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class JobStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int jobs;
+
+    /**
+     * Share of stored jobs that are QUEUED; the rest are finished and only cost the scan.
+     */
+    @Param({"0.01", "0.5"})
+    double pendingFraction;
+
+    private InMemoryJobStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        storage = new InMemoryJobStorage();
+        int pending = (int) (jobs * pendingFraction);
+        for (int i = 0; i < jobs; i++) {
+            storage.submit(Job.builder("job-" + i, "bench", "type-" + (i & 7))
+                    .status(i < pending ? JobStatus.QUEUED : JobStatus.SUCCESS)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<Job> getPendingJobs() {
+        return storage.getPendingJobs();
+    }
+
+    @Benchmark
+    public Job findById() {
+        return storage.findById("job-" + ThreadLocalRandom.current().nextInt(jobs));
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.distributedjobscheduler.benchmark;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling while producers and workers write to the same storage: one thread runs
+ * {@code getPendingJobs()} as the scheduler would, others submit/retry jobs with {@code save()} and
+ * report status with {@code updateStatus()}. JMH reports each role separately.
+ * <p>
+ * Writers only move a job between statuses of its own class (every tenth job between QUEUED and
+ * RETRY, the rest stay IN_PROGRESS), so the pending share the poll scans stays at 10% for the
+ * whole trial and iterations are comparable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StorageContentionBenchmark {
+
+    @Param({"10000", "1000000"})
+    int jobs;
+
+    private InMemoryJobStorage storage;
+    private String[] jobIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        storage = new InMemoryJobStorage();
+        jobIds = new String[jobs];
+        for (int i = 0; i < jobs; i++) {
+            jobIds[i] = "job-" + i;
+            storage.submit(Job.builder(jobIds[i], "bench", "type-" + (i & 7))
+                    .status(isPending(i) ? JobStatus.QUEUED : JobStatus.IN_PROGRESS)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @Group("pollUnderWrites")
+    @GroupThreads(1)
+    public List<Job> poll() {
+        return storage.getPendingJobs();
+    }
+
+    @Benchmark
+    @Group("pollUnderWrites")
+    @GroupThreads(2)
+    public void updateStatus() {
+        int i = ThreadLocalRandom.current().nextInt(jobs);
+        storage.updateStatus(jobIds[i], isPending(i) ? JobStatus.QUEUED : JobStatus.IN_PROGRESS);
+    }
+
+    @Benchmark
+    @Group("pollUnderWrites")
+    @GroupThreads(2)
+    public void save() {
+        int i = ThreadLocalRandom.current().nextInt(jobs);
+        Job job = storage.findById(jobIds[i]);
+        storage.save(job.toBuilder()
+                .status(isPending(i) ? JobStatus.RETRY : JobStatus.IN_PROGRESS)
+                .retryCount(job.getRetryCount() + 1)
+                .build());
+    }
+
+    private static boolean isPending(int i) {
+        return i % 10 == 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.distributedjobscheduler.benchmark;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.ResourceVector;
+import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker selection and stale-worker detection as the fleet grows.
+ * <p>
+ * Workers are spread over {@value #TYPES} job types; every fourth one also advertises "gpu".
+ * The hash ring uses few virtual nodes because every registration rebuilds the rings, which would
+ * otherwise dominate setup at 10^4 workers; pass {@code -p virtualNodes=100} to measure the
+ * production default.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkerRegistryBenchmark {
+
+    private static final int TYPES = 8;
+    private static final int ROUTING_KEYS = 1024; // power of two
+
+    @Param({"10", "100", "1000", "10000"})
+    int workers;
+
+    @Param({"ANY", "BEST_FIT"})
+    PlacementStrategy placement;
+
+    @Param({"10"})
+    int virtualNodes;
+
+    private InMemoryWorkerRegistry registry;
+    private Job plainJob;
+    private Job gpuJob;
+    private Job[] keyedJobs;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new InMemoryWorkerRegistry(virtualNodes, 1.25, placement);
+        ResourceVector capacity = new ResourceVector(8, 16_384);
+        for (int i = 0; i < workers; i++) {
+            String type = "type-" + (i % TYPES);
+            if (i % 4 == 0) {
+                registry.registerWorker("worker-" + i, "http://worker-" + i + ":8080", capacity, type, "gpu");
+            } else {
+                registry.registerWorker("worker-" + i, "http://worker-" + i + ":8080", capacity, type);
+            }
+        }
+        plainJob = Job.builder("plain", "bench", "type-1").build();
+        gpuJob = Job.builder("gpu", "bench", "type-0").requiredCapabilities(List.of("gpu")).build();
+        keyedJobs = new Job[ROUTING_KEYS];
+        for (int i = 0; i < ROUTING_KEYS; i++) {
+            keyedJobs[i] = Job.builder("keyed-" + i, "bench", "type-2").routingKey("tenant-" + i).build();
+        }
+    }
+
+    @Benchmark
+    public Optional<String> findAvailableWorker_byType() {
+        return registry.findAvailableWorker(plainJob);
+    }
+
+    @Benchmark
+    public Optional<String> findAvailableWorker_withCapability() {
+        return registry.findAvailableWorker(gpuJob);
+    }
+
+    @Benchmark
+    public Optional<String> findAvailableWorker_byRoutingKey() {
+        return registry.findAvailableWorker(keyedJobs[next++ & (ROUTING_KEYS - 1)]);
+    }
+
+    /**
+     * Steady state: every worker is healthy, so this measures the scan alone.
+     */
+    @Benchmark
+    public void detectStaleWorkers() {
+        registry.detectStaleWorkers(Duration.ofHours(1));
+    }
+}
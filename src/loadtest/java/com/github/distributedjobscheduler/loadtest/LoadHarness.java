@@ -0,0 +1,301 @@
+package com.github.distributedjobscheduler.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.model.ResourceVector;
+import com.github.distributedjobscheduler.registry.WorkerRegistry;
+import com.github.distributedjobscheduler.simulation.ServiceTimeDistribution;
+import com.github.distributedjobscheduler.storage.JobStorage;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test: a full auto-configured scheduler context dispatching to embedded stub
+ * workers over loopback HTTP.
+ * <p>
+ * Jobs are submitted through {@link JobStorage} following a {@link LoadTestConfig.Profile}; stubs
+ * report completion back through {@link JobStorage#updateStatus}. Submit-to-complete latency is
+ * taken from a status listener. Jobs still outstanding after the drain are broken down by stored
+ * status, and those left IN_PROGRESS after their stub reported a result are counted separately,
+ * since that means the scheduler lost the completion. Configure with {@code loadtest.*} system
+ * properties (see {@link LoadTestConfig}); the summary is printed as JSON and written to
+ * {@code loadtest.summary-file}.
+ */
+public class LoadHarness {
+
+    static final int STUCK_SAMPLE_SIZE = 20;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Long> submittedAt = new ConcurrentHashMap<>();
+    private final Set<String> reportedByStub = ConcurrentHashMap.newKeySet();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+
+    public LoadHarness(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        LoadTestSummary summary = new LoadHarness(config).run();
+        if (summary.getIncomplete() > 0 && config.isFailOnIncomplete()) {
+            throw new IllegalStateException(summary.getIncomplete() + " jobs did not finish within the drain timeout "
+                    + summary.getIncompleteByStatus() + ", " + summary.getStuckInProgress()
+                    + " of them stuck IN_PROGRESS after their worker reported a result");
+        }
+    }
+
+    public LoadTestSummary run() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HarnessApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "job.scheduler.poll-interval-ms=" + config.getPollIntervalMs(),
+                        "job.scheduler.recurring.enabled=false")
+                .run();
+        List<StubWorker> stubs = new ArrayList<>();
+        try {
+            JobStorage jobStorage = context.getBean(JobStorage.class);
+            WorkerRegistry workerRegistry = context.getBean(WorkerRegistry.class);
+            jobStorage.addStatusListener(this::onStatusChange);
+
+            ServiceTimeDistribution latency = ServiceTimeDistribution.parse(config.getLatency());
+            for (int i = 0; i < config.getWorkers(); i++) {
+                StubWorker stub = new StubWorker("stub-" + i, config.getCapacity(), latency, config.getErrorRate(),
+                        config.getFailureRate(), config.getSeed() + i, objectMapper,
+                        (jobId, success) -> {
+                            reportedByStub.add(jobId);
+                            jobStorage.updateStatus(jobId, success ? JobStatus.SUCCESS : JobStatus.FAILED);
+                        })
+                        .start();
+                stubs.add(stub);
+                workerRegistry.registerWorker(stub.getWorkerId(), stub.getUrl(),
+                        new ResourceVector(config.getCapacity(), 0), jobType(i));
+            }
+
+            long started = System.nanoTime();
+            long submitted = submit(jobStorage);
+            drain(started);
+            return summarize(context.getBean(SchedulerProperties.class), jobStorage, stubs, submitted, started);
+        } finally {
+            stubs.forEach(StubWorker::stop);
+            context.close();
+        }
+    }
+
+    /**
+     * Submits according to the configured profile, pacing against absolute deadlines so a slow
+     * submit does not lower the overall rate. Each job is due {@code 1 / rate(t)} after the previous
+     * one; bursts are submitted back to back when their deadline is reached.
+     */
+    private long submit(JobStorage jobStorage) {
+        long durationNanos = TimeUnit.SECONDS.toNanos(config.getDurationSec());
+        long burstIntervalNanos = TimeUnit.SECONDS.toNanos(Math.max(1, config.getBurstIntervalSec()));
+        long start = System.nanoTime();
+        long submitted = 0;
+        long nextBurst = config.getProfile() == LoadTestConfig.Profile.BURST ? 0 : Long.MAX_VALUE;
+        double offset = 0;
+        while (offset < durationNanos) {
+            while (nextBurst <= offset) {
+                pace(start + nextBurst);
+                for (int b = 0; b < config.getBurstSize(); b++) {
+                    submitOne(jobStorage, submitted++);
+                }
+                nextBurst += burstIntervalNanos;
+            }
+            pace(start + (long) offset);
+            submitOne(jobStorage, submitted++);
+            offset += TimeUnit.SECONDS.toNanos(1) / rateAt(offset / durationNanos);
+        }
+        return submitted;
+    }
+
+    /**
+     * Submission rate at {@code progress} (0 to 1) through the run.
+     */
+    private double rateAt(double progress) {
+        if (config.getProfile() == LoadTestConfig.Profile.RAMP) {
+            return config.getRate() + (config.getPeakRate() - config.getRate()) * progress;
+        }
+        return config.getRate();
+    }
+
+    private static void pace(long due) {
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private void submitOne(JobStorage jobStorage, long i) {
+        String jobId = "load-" + i;
+        submittedAt.put(jobId, System.nanoTime());
+        jobStorage.submit(Job.builder(jobId, "load test", jobType((int) i)).build());
+    }
+
+    private void drain(long started) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getDrainTimeoutSec());
+        while (!submittedAt.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        lastCompletionNanos.compareAndSet(0, started);
+    }
+
+    private void onStatusChange(Job job, JobStatus previous, JobStatus current) {
+        if (current != JobStatus.SUCCESS && current != JobStatus.FAILED) {
+            return;
+        }
+        Long submitted = submittedAt.remove(job.getJobId());
+        if (submitted == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        latencies.record(now - submitted);
+        lastCompletionNanos.accumulateAndGet(now, Math::max);
+        retries.addAndGet(job.getRetryCount());
+        (current == JobStatus.SUCCESS ? succeeded : failed).incrementAndGet();
+    }
+
+    private LoadTestSummary summarize(SchedulerProperties schedulerProperties, JobStorage jobStorage,
+                                      List<StubWorker> stubs, long submitted, long started) throws Exception {
+        LoadTestSummary summary = new LoadTestSummary();
+        Map<String, Object> cfg = summary.getConfig();
+        cfg.put("workers", config.getWorkers());
+        cfg.put("capacity", config.getCapacity());
+        cfg.put("latency", config.getLatency());
+        cfg.put("errorRate", config.getErrorRate());
+        cfg.put("failureRate", config.getFailureRate());
+        cfg.put("profile", config.getProfile());
+        cfg.put("rate", config.getRate());
+        if (config.getProfile() == LoadTestConfig.Profile.RAMP) {
+            cfg.put("peakRate", config.getPeakRate());
+        }
+        if (config.getProfile() == LoadTestConfig.Profile.BURST) {
+            cfg.put("burstSize", config.getBurstSize());
+            cfg.put("burstIntervalSec", config.getBurstIntervalSec());
+        }
+        cfg.put("durationSec", config.getDurationSec());
+        cfg.put("jobTypes", config.getJobTypes());
+        cfg.put("seed", config.getSeed());
+        cfg.put("pollIntervalMs", schedulerProperties.getPollIntervalMs());
+        cfg.put("maxRetries", schedulerProperties.getMaxRetries());
+        cfg.put("threadPoolSize", schedulerProperties.getThreadPoolSize());
+
+        summary.setSubmitted(submitted);
+        summary.setSucceeded(succeeded.get());
+        summary.setFailed(failed.get());
+        summary.setIncomplete(submittedAt.size());
+        summarizeIncomplete(jobStorage, summary);
+        summary.setRetries(retries.get());
+        double elapsedSec = (lastCompletionNanos.get() - started) / 1e9;
+        summary.setElapsedSec(elapsedSec);
+        summary.setThroughputPerSec(elapsedSec > 0 ? (succeeded.get() + failed.get()) / elapsedSec : 0);
+
+        long[] sorted = latencies.sorted();
+        Map<String, Double> latency = summary.getLatencyMs();
+        latency.put("p50", percentileMs(sorted, 0.50));
+        latency.put("p90", percentileMs(sorted, 0.90));
+        latency.put("p99", percentileMs(sorted, 0.99));
+        latency.put("p999", percentileMs(sorted, 0.999));
+        latency.put("max", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        latency.put("mean", Arrays.stream(sorted).average().orElse(0) / 1e6);
+
+        summary.getWorkerResponses().put("accepted", stubs.stream().mapToLong(StubWorker::getAccepted).sum());
+        summary.getWorkerResponses().put("injectedErrors", stubs.stream().mapToLong(StubWorker::getInjectedErrors).sum());
+        summary.getWorkerResponses().put("rejectedAtCapacity", stubs.stream().mapToLong(StubWorker::getRejected).sum());
+
+        String json = objectMapper.writeValueAsString(summary);
+        System.out.println(json);
+        Path file = Path.of(config.getSummaryFile());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, json);
+        return summary;
+    }
+
+    /**
+     * Breaks the jobs still outstanding down by their stored status and singles out the ones a stub
+     * finished but the scheduler still holds IN_PROGRESS.
+     */
+    private void summarizeIncomplete(JobStorage jobStorage, LoadTestSummary summary) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        for (String jobId : submittedAt.keySet()) {
+            Job job = jobStorage.findById(jobId);
+            JobStatus status = job != null ? job.getStatus() : null;
+            byStatus.merge(String.valueOf(status), 1L, Long::sum);
+            if (status == JobStatus.IN_PROGRESS && reportedByStub.contains(jobId)) {
+                summary.setStuckInProgress(summary.getStuckInProgress() + 1);
+                if (summary.getStuckInProgressSample().size() < STUCK_SAMPLE_SIZE) {
+                    summary.getStuckInProgressSample().add(jobId);
+                }
+            }
+        }
+        summary.getIncompleteByStatus().putAll(byStatus);
+    }
+
+    private String jobType(int i) {
+        return "load-" + (i % Math.max(1, config.getJobTypes()));
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * Append-only latency log; sorted once at the end.
+     */
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        synchronized void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Boots only auto-configuration (the starter's plus WebClient, Jackson and Resilience4j);
+     * the demo application's component scan is deliberately left out.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class HarnessApplication {
+    }
+}
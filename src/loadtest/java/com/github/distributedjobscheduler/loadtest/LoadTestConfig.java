@@ -0,0 +1,121 @@
+package com.github.distributedjobscheduler.loadtest;
+
+import com.github.distributedjobscheduler.simulation.ServiceTimeDistribution;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Load-test parameters, read from {@code loadtest.*} system properties.
+ */
+@Getter
+public class LoadTestConfig {
+
+    /**
+     * Number of stub workers started on loopback.
+     */
+    private final int workers = Integer.getInteger("loadtest.workers", 4);
+
+    /**
+     * Concurrent jobs each stub accepts; also advertised to the registry as CPU slots.
+     */
+    private final int capacity = Integer.getInteger("loadtest.capacity", 16);
+
+    /**
+     * Stub service-time distribution, see {@link ServiceTimeDistribution}.
+     */
+    private final String latency = System.getProperty("loadtest.latency", "lognormal:20,0.5");
+
+    /**
+     * Fraction of deliveries a stub rejects with HTTP 500 (exercises dispatcher and scheduler retries).
+     */
+    private final double errorRate = doubleProperty("loadtest.error-rate", 0.01);
+
+    /**
+     * Fraction of accepted jobs the stub reports as FAILED once they finish.
+     */
+    private final double failureRate = doubleProperty("loadtest.failure-rate", 0.0);
+
+    /**
+     * Submission pattern: {@code constant}, {@code ramp} or {@code burst}.
+     */
+    private final Profile profile = Profile.valueOf(
+            System.getProperty("loadtest.profile", "constant").toUpperCase(Locale.ROOT));
+
+    /**
+     * Submission rate in jobs per second; the starting rate for {@link Profile#RAMP} and the
+     * background rate for {@link Profile#BURST}.
+     */
+    private final double rate = doubleProperty("loadtest.rate", 200);
+
+    /**
+     * Rate reached at the end of the run by {@link Profile#RAMP}, in jobs per second.
+     */
+    private final double peakRate = doubleProperty("loadtest.peak-rate", 2000);
+
+    /**
+     * Jobs submitted at once by each {@link Profile#BURST} burst.
+     */
+    private final int burstSize = Integer.getInteger("loadtest.burst-size", 1000);
+
+    /**
+     * Seconds between {@link Profile#BURST} bursts; the first burst fires at the start of the run.
+     */
+    private final long burstIntervalSec = Long.getLong("loadtest.burst-interval-sec", 10L);
+
+    /**
+     * How long jobs are submitted, in seconds.
+     */
+    private final long durationSec = Long.getLong("loadtest.duration-sec", 30L);
+
+    /**
+     * How long to wait for outstanding jobs after the last submission, in seconds.
+     */
+    private final long drainTimeoutSec = Long.getLong("loadtest.drain-timeout-sec", 60L);
+
+    /**
+     * Number of distinct job types; stub i serves type (i mod jobTypes).
+     */
+    private final int jobTypes = Integer.getInteger("loadtest.job-types", 1);
+
+    /**
+     * Seed for service times and error injection.
+     */
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+
+    /**
+     * Scheduler poll interval used for the run.
+     */
+    private final long pollIntervalMs = Long.getLong("loadtest.poll-interval-ms", 50L);
+
+    /**
+     * Where the JSON summary is written (it is always printed to stdout as well).
+     */
+    private final String summaryFile = System.getProperty("loadtest.summary-file", "target/loadtest-summary.json");
+
+    /**
+     * Whether the run fails when jobs are still outstanding after the drain timeout.
+     */
+    private final boolean failOnIncomplete = Boolean.parseBoolean(
+            System.getProperty("loadtest.fail-on-incomplete", "true"));
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    public enum Profile {
+        /**
+         * {@code rate} jobs per second for the whole run.
+         */
+        CONSTANT,
+        /**
+         * Linear increase from {@code rate} to {@code peak-rate}, to find the saturation point.
+         */
+        RAMP,
+        /**
+         * {@code rate} jobs per second plus {@code burst-size} jobs at once every {@code burst-interval-sec}.
+         */
+        BURST
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.distributedjobscheduler.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-readable result of one load-test run (serialized as JSON).
+ */
+@Getter
+@Setter
+public class LoadTestSummary {
+
+    private Map<String, Object> config = new LinkedHashMap<>();
+
+    private long submitted;
+    private long succeeded;
+    private long failed;
+
+    /**
+     * Jobs still not SUCCESS/FAILED when the drain timeout expired.
+     */
+    private long incomplete;
+
+    /**
+     * Incomplete jobs by their stored status when the drain timeout expired.
+     */
+    private Map<String, Long> incompleteByStatus = new LinkedHashMap<>();
+
+    /**
+     * Incomplete jobs left IN_PROGRESS although their stub already reported a result, i.e. the
+     * completion was lost or overwritten inside the scheduler.
+     */
+    private long stuckInProgress;
+
+    /**
+     * Up to {@value LoadHarness#STUCK_SAMPLE_SIZE} ids of {@link #stuckInProgress} jobs, for inspection.
+     */
+    private List<String> stuckInProgressSample = new ArrayList<>();
+
+    /**
+     * Scheduler-level retries (sum of retryCount over finished jobs).
+     */
+    private long retries;
+
+    private double elapsedSec;
+
+    /**
+     * Finished jobs per second, from the first submission to the last completion.
+     */
+    private double throughputPerSec;
+
+    /**
+     * Submit-to-complete latency percentiles in milliseconds (p50, p90, p99, p999, max, mean).
+     */
+    private Map<String, Double> latencyMs = new LinkedHashMap<>();
+
+    /**
+     * Deliveries accepted, answered with an injected 500, or refused at capacity, summed over stubs.
+     */
+    private Map<String, Long> workerResponses = new LinkedHashMap<>();
+}
@@ -0,0 +1,128 @@
+package com.github.distributedjobscheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.distributedjobscheduler.simulation.ServiceTimeDistribution;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker stand-in served by Reactor Netty on loopback.
+ * <p>
+ * {@code POST /execute-job} is answered immediately: 500 for an injected error, 503 when the stub
+ * is at capacity, 202 otherwise. Accepted jobs "run" for a sampled service time and are then
+ * reported through the {@link CompletionCallback}, the way a real worker would call back into the
+ * scheduler application.
+ */
+public class StubWorker {
+
+    @FunctionalInterface
+    public interface CompletionCallback {
+        void completed(String jobId, boolean success);
+    }
+
+    private final String workerId;
+    private final int capacity;
+    private final ServiceTimeDistribution latency;
+    private final double errorRate;
+    private final double failureRate;
+    private final Random random;
+    private final ObjectMapper objectMapper;
+    private final CompletionCallback callback;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private DisposableServer server;
+
+    public StubWorker(String workerId, int capacity, ServiceTimeDistribution latency, double errorRate,
+                      double failureRate, long seed, ObjectMapper objectMapper, CompletionCallback callback) {
+        this.workerId = workerId;
+        this.capacity = capacity;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.failureRate = failureRate;
+        this.random = new Random(seed);
+        this.objectMapper = objectMapper;
+        this.callback = callback;
+    }
+
+    public StubWorker start() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/execute-job", (request, response) -> request.receive().aggregate().asString()
+                                .flatMap(body -> response.status(accept(body)).send()))
+                        .post("/cancel-job/{jobId}", (request, response) -> response.status(HttpResponseStatus.OK).send()))
+                .bindNow();
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    public long getAccepted() {
+        return accepted.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private HttpResponseStatus accept(String body) {
+        long serviceMs;
+        boolean success;
+        synchronized (random) {
+            if (random.nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                return HttpResponseStatus.INTERNAL_SERVER_ERROR;
+            }
+            serviceMs = latency.sampleMillis(random);
+            success = random.nextDouble() >= failureRate;
+        }
+        if (inFlight.incrementAndGet() > capacity) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            return HttpResponseStatus.SERVICE_UNAVAILABLE;
+        }
+        String jobId;
+        try {
+            JsonNode job = objectMapper.readTree(body);
+            jobId = job.path("jobId").asText();
+        } catch (Exception e) {
+            inFlight.decrementAndGet();
+            return HttpResponseStatus.BAD_REQUEST;
+        }
+        accepted.incrementAndGet();
+        Mono.delay(Duration.ofMillis(serviceMs)).subscribe(tick -> {
+            inFlight.decrementAndGet();
+            callback.completed(jobId, success);
+        });
+        return HttpResponseStatus.ACCEPTED;
+    }
+}
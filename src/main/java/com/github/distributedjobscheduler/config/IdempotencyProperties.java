@@ -0,0 +1,31 @@
+package com.github.distributedjobscheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "job.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether submissions carrying an idempotency key are deduplicated. Default true.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long (ms) a key is remembered (default 10 minutes).
+     */
+    private long windowMs = 600_000L;
+
+    /**
+     * Upper bound on remembered keys; bounds memory of the deduplication index.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * Target false-positive rate of the Bloom filter front (positives are confirmed exactly).
+     */
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,26 @@
+package com.github.distributedjobscheduler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "job.payload.offload")
+public class PayloadOffloadProperties {
+
+    /**
+     * Whether large payloads are offloaded to the blob store. Default false.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Serialized payload size (bytes) above which a payload is offloaded (default 256 KiB).
+     */
+    private long thresholdBytes = 256 * 1024L;
+
+    /**
+     * Directory used by the default memory-mapped blob store.
+     */
+    private String directory = System.getProperty("java.io.tmpdir") + "/djs-blobs";
+}
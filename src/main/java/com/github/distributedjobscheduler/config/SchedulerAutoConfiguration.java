@@ -1,15 +1,30 @@
 package com.github.distributedjobscheduler.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.github.distributedjobscheduler.dispatcher.JobDispatcher;
+import com.github.distributedjobscheduler.metrics.MicrometerSchedulerMetrics;
+import com.github.distributedjobscheduler.metrics.SchedulerMetrics;
 import com.github.distributedjobscheduler.registry.WorkerRegistry;
 import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
 import com.github.distributedjobscheduler.scheduler.JobScheduler;
+import com.github.distributedjobscheduler.scheduler.RecurringJobEngine;
 import com.github.distributedjobscheduler.scheduler.SchedulerTaskExecutor;
 import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryRecurringJobStorage;
 import com.github.distributedjobscheduler.storage.JobStorage;
+import com.github.distributedjobscheduler.storage.RecurringJobStorage;
+import com.github.distributedjobscheduler.storage.blob.BlobStore;
+import com.github.distributedjobscheduler.storage.blob.MappedFileBlobStore;
+import com.github.distributedjobscheduler.storage.blob.OffloadingJobStorage;
+import com.github.distributedjobscheduler.storage.blob.PayloadOffloader;
+import com.github.distributedjobscheduler.storage.dedup.IdempotencyIndex;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -17,6 +32,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.file.Path;
+import java.time.Clock;
+
 /**
  * Autoconfiguration for the Distributed Job Scheduler starter.
  * Exposes beans with sensible defaults, but allows the application author
@@ -24,21 +42,69 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 
 @Configuration
-@EnableConfigurationProperties({SchedulerProperties.class, WorkerProperties.class})
+@EnableConfigurationProperties({SchedulerProperties.class, WorkerProperties.class, PayloadOffloadProperties.class,
+        IdempotencyProperties.class})
 public class SchedulerAutoConfiguration {
 
+    /**
+     * Time source for storage, registry and scheduler. Replace it (same bean name) to run the
+     * scheduler against a different clock.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "schedulerClock")
+    public Clock schedulerClock() {
+        return Clock.systemUTC();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "job.storage", name = "type", havingValue = "in-memory", matchIfMissing = true) // Default to in-memory
-    public JobStorage inMemoryJobStorage() {
-        return new InMemoryJobStorage();
+    public JobStorage inMemoryJobStorage(ObjectProvider<PayloadOffloader> payloadOffloader,
+                                         IdempotencyProperties idempotencyProps,
+                                         @Qualifier("schedulerClock") Clock clock) {
+        IdempotencyIndex idempotencyIndex = idempotencyProps.isEnabled()
+                ? new IdempotencyIndex(idempotencyProps.getMaxEntries(), idempotencyProps.getWindowMs(),
+                        idempotencyProps.getFalsePositiveRate(), clock)
+                : null;
+        JobStorage storage = new InMemoryJobStorage(idempotencyIndex, clock);
+        PayloadOffloader offloader = payloadOffloader.getIfAvailable();
+        return offloader != null ? new OffloadingJobStorage(storage, offloader) : storage;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "job.storage", name = "type", havingValue = "in-memory", matchIfMissing = true) // Default to in-memory
+    public RecurringJobStorage inMemoryRecurringJobStorage() {
+        return new InMemoryRecurringJobStorage();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "job.payload.offload", name = "enabled", havingValue = "true")
+    public BlobStore blobStore(PayloadOffloadProperties props) {
+        return new MappedFileBlobStore(Path.of(props.getDirectory()));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "job.payload.offload", name = "enabled", havingValue = "true")
+    public PayloadOffloader payloadOffloader(BlobStore blobStore,
+                                             ObjectProvider<ObjectMapper> objectMapper,
+                                             PayloadOffloadProperties props) {
+        ObjectMapper mapper = objectMapper.getIfAvailable(() -> JsonMapper.builder().findAndAddModules().build());
+        return new PayloadOffloader(blobStore, mapper, props.getThresholdBytes());
     }
 
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "job.registry", name = "type", havingValue = "in-memory", matchIfMissing = true) // Default to in-memory
-    public WorkerRegistry inMemoryWorkerRegistry() {
-        return new InMemoryWorkerRegistry();
+    public WorkerRegistry inMemoryWorkerRegistry(WorkerProperties workerProperties,
+                                                 @Qualifier("schedulerClock") Clock clock) {
+        return new InMemoryWorkerRegistry(
+                workerProperties.getAffinityVirtualNodes(),
+                workerProperties.getAffinityLoadFactor(),
+                workerProperties.getPlacement(),
+                clock);
     }
 
     @Bean
@@ -47,7 +113,7 @@ public class SchedulerAutoConfiguration {
         int poolSize = Math.max(1, props.getThreadPoolSize());
         String prefix = props.getThreadNamePrefix() != null ? props.getThreadNamePrefix() : "distributed-job-scheduler-";
         long shutdownMs = props.getShutdownAwaitTerminationMs() > 0 ? props.getShutdownAwaitTerminationMs() : 5000L;
-        return new SchedulerTaskExecutor(poolSize, prefix, shutdownMs);
+        return new SchedulerTaskExecutor(poolSize, prefix, shutdownMs, props.getExecutionMode());
     }
 
     @Bean
@@ -59,8 +125,9 @@ public class SchedulerAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public JobDispatcher jobDispatcher(WebClient.Builder webClientBuilder,
-                                       @Qualifier("jobDispatchRetry") Retry retry) {
-        return new JobDispatcher(webClientBuilder, retry);
+                                       @Qualifier("jobDispatchRetry") Retry retry,
+                                       ObjectProvider<PayloadOffloader> payloadOffloader) {
+        return new JobDispatcher(webClientBuilder, retry, payloadOffloader.getIfAvailable());
     }
 
     @Bean
@@ -70,13 +137,17 @@ public class SchedulerAutoConfiguration {
                                      WorkerRegistry workerRegistry,
                                      JobDispatcher jobDispatcher,
                                      SchedulerTaskExecutor executor,
-                                     SchedulerProperties schedulerProperties) {
+                                     SchedulerProperties schedulerProperties,
+                                     ObjectProvider<SchedulerMetrics> schedulerMetrics,
+                                     @Qualifier("schedulerClock") Clock clock) {
         JobScheduler scheduler = new JobScheduler(
                 jobStorage,
                 workerRegistry,
                 jobDispatcher,
                 executor,
-                schedulerProperties
+                schedulerProperties,
+                schedulerMetrics.getIfAvailable(() -> SchedulerMetrics.NOOP),
+                clock
         );
 
         // Auto-start the scheduler if enabled (default true)
@@ -85,4 +156,54 @@ public class SchedulerAutoConfiguration {
         }
         return scheduler;
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "job.scheduler.recurring", name = "enabled", havingValue = "true", matchIfMissing = true) // Enabled by default
+    public RecurringJobEngine recurringJobEngine(RecurringJobStorage recurringJobStorage,
+                                                 JobStorage jobStorage,
+                                                 SchedulerProperties schedulerProperties,
+                                                 @Qualifier("schedulerClock") Clock clock) {
+        // own scheduling thread: ticks must not wait behind dispatches blocking the poll loop
+        String prefix = schedulerProperties.getThreadNamePrefix() != null ? schedulerProperties.getThreadNamePrefix() : "distributed-job-scheduler-";
+        long shutdownMs = schedulerProperties.getShutdownAwaitTerminationMs() > 0 ? schedulerProperties.getShutdownAwaitTerminationMs() : 5000L;
+        RecurringJobEngine engine = new RecurringJobEngine(
+                recurringJobStorage,
+                jobStorage,
+                schedulerProperties.getRecurring(),
+                clock,
+                prefix + "recurring-",
+                shutdownMs
+        );
+
+        if (schedulerProperties.isEnabled()) {
+            engine.start();
+        }
+        return engine;
+    }
+
+    /**
+     * Registers scheduler meters when Micrometer is on the classpath and the application
+     * provides a MeterRegistry (e.g. through spring-boot-starter-actuator).
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "job.scheduler.metrics", name = "enabled", havingValue = "true", matchIfMissing = true) // Enabled by default
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SchedulerMetrics schedulerMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                                                 JobStorage jobStorage,
+                                                 SchedulerProperties schedulerProperties,
+                                                 @Qualifier("schedulerClock") Clock clock) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return SchedulerMetrics.NOOP;
+            }
+            SchedulerProperties.Metrics props = schedulerProperties.getMetrics();
+            return new MicrometerSchedulerMetrics(registry, jobStorage, props.isPercentileHistograms(),
+                    props.getStatusSnapshotMs(), clock);
+        }
+    }
 }
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "job.scheduler")
@@ -39,6 +42,32 @@ public class SchedulerProperties {
      */
     private long shutdownAwaitTerminationMs = 5_000L;
 
+    /**
+     * Where dispatch calls run: PLATFORM dispatches inline on the polling thread, VIRTUAL hands each
+     * dispatch to its own virtual thread (JDK 21+, falls back to PLATFORM on older runtimes).
+     */
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+
+    /**
+     * Upper bound on dispatches in flight at once in VIRTUAL mode; the rest wait for the next poll.
+     */
+    private int maxConcurrentDispatches = 1_000;
+
+    /**
+     * Speculative re-dispatch of straggling jobs (job.scheduler.hedging.*).
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Recurring (cron / fixed-rate) job engine (job.scheduler.recurring.*).
+     */
+    private Recurring recurring = new Recurring();
+
+    /**
+     * Micrometer metrics (job.scheduler.metrics.*); active only when a MeterRegistry bean exists.
+     */
+    private Metrics metrics = new Metrics();
+
     // getters and setters
 
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
@@ -52,4 +81,96 @@ public class SchedulerProperties {
     public void setThreadNamePrefix(String threadNamePrefix) { this.threadNamePrefix = threadNamePrefix; }
 
     public void setShutdownAwaitTerminationMs(long shutdownAwaitTerminationMs) { this.shutdownAwaitTerminationMs = shutdownAwaitTerminationMs; }
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * Whether straggling jobs may be re-dispatched to a second worker. Default false.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Job types that may be hedged. Jobs must also be marked idempotent.
+         */
+        private List<String> types = new ArrayList<>();
+
+        /**
+         * A job is a straggler once its run time exceeds this percentile of recent run times for its type.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Successful runs required for a type before any of its jobs are hedged.
+         */
+        private int minSamples = 20;
+
+        /**
+         * Number of recent run times kept per type.
+         */
+        private int historySize = 512;
+
+        /**
+         * Upper bound on hedged dispatches as a fraction of all in-flight jobs.
+         */
+        private double maxHedgeFraction = 0.1;
+    }
+
+    @Getter
+    @Setter
+    public static class Recurring {
+
+        /**
+         * Whether the recurring job engine runs. Default true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How often (ms) due schedules are evaluated.
+         */
+        private long tickIntervalMs = 1_000L;
+
+        /**
+         * How often (ms) the local fire-time heap is rebuilt from RecurringJobStorage,
+         * picking up definitions registered on other nodes.
+         */
+        private long resyncIntervalMs = 30_000L;
+
+        /**
+         * A fire time later than this (ms), whose following fire time is also due, is treated as missed
+         * and handled by the definition's MisfirePolicy.
+         */
+        private long misfireThresholdMs = 5_000L;
+
+        /**
+         * Maximum number of missed fires materialized at once under MisfirePolicy.CATCH_UP.
+         */
+        private int maxCatchUp = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Whether scheduler meters are registered. Default true.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Publish percentile histograms for poll, queue-wait and dispatch timers.
+         */
+        private boolean percentileHistograms = true;
+
+        /**
+         * Minimum interval (ms) between storage scans backing the job.scheduler.jobs gauges (jobs by status).
+         */
+        private long statusSnapshotMs = 5_000L;
+    }
 }
@@ -1,13 +1,12 @@
 package com.github.distributedjobscheduler.config;
 
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.stereotype.Component;
 
 @Setter
 @Getter
-@Component
 @ConfigurationProperties(prefix = "job.worker")
 public class WorkerProperties {
     /**
@@ -20,4 +19,20 @@ public class WorkerProperties {
      */
     private int timeout = 30000;
 
+    /**
+     * Virtual nodes per worker on the consistent-hash ring used for routing-key affinity.
+     */
+    private int affinityVirtualNodes = 100;
+
+    /**
+     * Bounded-load factor for affinity routing: a worker takes a keyed job only while its
+     * in-flight count is below loadFactor x the ring's average. Values <= 0 disable the bound.
+     */
+    private double affinityLoadFactor = 1.25;
+
+    /**
+     * How jobs are placed on capable workers: ANY, BEST_FIT (pack tightly) or SPREAD.
+     */
+    private PlacementStrategy placement = PlacementStrategy.BEST_FIT;
+
 }
@@ -1,13 +1,29 @@
 package com.github.distributedjobscheduler.dispatcher;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.distributedjobscheduler.jfr.DispatchAttemptEvent;
 import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.storage.blob.PayloadOffloader;
 import io.github.resilience4j.retry.Retry;
+import io.netty.buffer.ByteBufAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /*
@@ -16,14 +32,35 @@ import java.util.function.Supplier;
 
 public class JobDispatcher {
 
+    private static final Logger log = LoggerFactory.getLogger(JobDispatcher.class);
+
     private final WebClient webClient;
 
     private final Retry retry;
 
+    // null unless payload offloading is enabled; offloaded payloads are streamed into the request body
+    private final PayloadOffloader payloadOffloader;
+
+    /**
+     * Header carrying the job's idempotency key (or its id) so workers can drop repeated deliveries.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final NettyDataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+    private static final byte[] PAYLOAD_FIELD = ",\"payload\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_END = "}".getBytes(StandardCharsets.UTF_8);
+
     public JobDispatcher(WebClient.Builder webClientBuilder, @Qualifier("jobDispatchRetry")Retry retry) {
+        this(webClientBuilder, retry, null);
+    }
+
+    public JobDispatcher(WebClient.Builder webClientBuilder,
+                         @Qualifier("jobDispatchRetry") Retry retry,
+                         PayloadOffloader payloadOffloader) {
         this.webClient = webClientBuilder
                 .build();
         this.retry = retry;
+        this.payloadOffloader = payloadOffloader;
     }
 
     /**
@@ -34,23 +71,97 @@ public class JobDispatcher {
      * @return true if the job was delivered with 2xx response, false otherwise.
      */
     public boolean dispatch(Job job, String workerUrl) {
+        AtomicInteger attempts = new AtomicInteger();
         Supplier<Boolean> dispatchSupplier = Retry.decorateSupplier(retry, () -> {
-            HttpStatusCode status = webClient.post()
-                    .uri(workerUrl + "/execute-job")
-                    .bodyValue(job)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .map(ResponseEntity::getStatusCode)
-                    .block(Duration.ofSeconds(5)); // synchronous call
-
-            return status != null && status.is2xxSuccessful();
+            int attempt = attempts.incrementAndGet();
+            TraceContext trace = TraceContext.forJob(job.getJobId());
+            DispatchAttemptEvent event = new DispatchAttemptEvent();
+            event.begin();
+            int httpStatus = 0;
+            try {
+                WebClient.RequestBodySpec request = webClient.post()
+                        .uri(workerUrl + "/execute-job")
+                        .header(IDEMPOTENCY_KEY_HEADER, job.getIdempotencyKey() != null ? job.getIdempotencyKey() : job.getJobId())
+                        .header(TraceContext.TRACEPARENT_HEADER, trace.toTraceparent());
+                WebClient.RequestHeadersSpec<?> withBody = streamsPayload(job)
+                        ? request.contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromDataBuffers(inlinePayloadBody(job)))
+                        : request.bodyValue(job);
+
+                HttpStatusCode status = withBody
+                        .retrieve()
+                        .toBodilessEntity()
+                        .map(ResponseEntity::getStatusCode)
+                        .block(Duration.ofSeconds(5)); // synchronous call
+
+                httpStatus = status != null ? status.value() : 0;
+                return status != null && status.is2xxSuccessful();
+            } catch (WebClientResponseException e) {
+                httpStatus = e.getStatusCode().value();
+                throw e;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.jobId = job.getJobId();
+                    event.jobType = job.getType();
+                    event.workerUrl = workerUrl;
+                    event.attempt = attempt;
+                    event.httpStatus = httpStatus;
+                    event.traceId = trace.getTraceId();
+                    event.spanId = trace.getSpanId();
+                    event.commit();
+                }
+            }
         });
 
         try {
             return dispatchSupplier.get();
         } catch (Exception e) {
-            System.err.println("Job dispatch failed after retries: " + e.getMessage());
+            log.warn("Dispatch of job {} to {} failed after retries: {}", job.getJobId(), workerUrl, e.getMessage());
             return false;
         }
     }
+
+    /**
+     * Asks a worker to abandon a job, e.g. the losing copy of a hedged dispatch.
+     * Fire-and-forget: workers that do not support cancellation (or already finished) are ignored.
+     *
+     * @param job       The job to cancel.
+     * @param workerUrl The worker URL the job was dispatched to.
+     */
+    public void cancel(Job job, String workerUrl) {
+        webClient.post()
+                .uri(workerUrl + "/cancel-job/{jobId}", job.getJobId())
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5))
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+
+    private boolean streamsPayload(Job job) {
+        return job.isPayloadOffloaded() && payloadOffloader != null;
+    }
+
+    /**
+     * Builds the JSON body for an offloaded job by splicing the memory-mapped blob into the
+     * serialized job, so the payload is never materialized on the heap.
+     * The job itself serializes without a "payload" field (it is empty), so the result is
+     * {@code {...job fields...,"payload":<blob>}}.
+     */
+    private Flux<DataBuffer> inlinePayloadBody(Job job) {
+        byte[] head;
+        try {
+            head = payloadOffloader.getObjectMapper().writeValueAsBytes(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job " + job.getJobId(), e);
+        }
+        ByteBuffer blob = payloadOffloader.openPayload(job);
+
+        // buffers are wrapped (not copied) and recreated per subscription so retries can resend them
+        return Flux.defer(() -> Flux.just(
+                BUFFER_FACTORY.wrap(ByteBuffer.wrap(head, 0, head.length - 1)), // drop the closing '}'
+                BUFFER_FACTORY.wrap(PAYLOAD_FIELD),
+                BUFFER_FACTORY.wrap(blob.duplicate()),
+                BUFFER_FACTORY.wrap(OBJECT_END)));
+    }
 }
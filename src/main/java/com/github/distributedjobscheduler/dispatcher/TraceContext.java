@@ -0,0 +1,81 @@
+package com.github.distributedjobscheduler.dispatcher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context ({@code traceparent}) for job dispatches.
+ * <p>
+ * The trace id is derived from the job id, so every attempt, retry and hedged copy of a job lands
+ * in the same trace and can be joined with worker-side spans and scheduler JFR events without the
+ * scheduler storing any state. Each attempt gets a fresh random span (parent) id.
+ */
+public final class TraceContext {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String traceId;
+    private final String spanId;
+
+    private TraceContext(String traceId, String spanId) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    /**
+     * New span within the job's trace.
+     */
+    public static TraceContext forJob(String jobId) {
+        byte[] bytes = jobId.getBytes(StandardCharsets.UTF_8);
+        long high = hash(bytes, 0x9e3779b97f4a7c15L);
+        long low = hash(bytes, 0xc2b2ae3d27d4eb4fL);
+        if (high == 0 && low == 0) {
+            low = 1; // all-zero trace ids are invalid
+        }
+        long span;
+        do {
+            span = ThreadLocalRandom.current().nextLong();
+        } while (span == 0);
+        return new TraceContext(hex(high) + hex(low), hex(span));
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * Header value: version 00, sampled flag set.
+     */
+    public String toTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    private static long hash(byte[] bytes, long seed) {
+        long h = seed ^ 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static String hex(long value) {
+        char[] out = new char[16];
+        for (int i = 15; i >= 0; i--) {
+            out[i] = HEX[(int) (value & 0xf)];
+            value >>>= 4;
+        }
+        return new String(out);
+    }
+}
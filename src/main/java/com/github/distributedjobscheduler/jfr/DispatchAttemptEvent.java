@@ -0,0 +1,44 @@
+package com.github.distributedjobscheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One HTTP delivery attempt made by {@code JobDispatcher.dispatch}, covering serialization and the
+ * round trip. A dispatch retried by Resilience4j produces one event per attempt.
+ */
+@Name("com.github.distributedjobscheduler.DispatchAttempt")
+@Label("Dispatch Attempt")
+@Category({"Distributed Job Scheduler", "Dispatcher"})
+@Description("One HTTP delivery attempt of a job to a worker")
+@StackTrace(false)
+public class DispatchAttemptEvent extends jdk.jfr.Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Job Type")
+    public String jobType;
+
+    @Label("Worker URL")
+    public String workerUrl;
+
+    @Label("Attempt")
+    @Description("1-based attempt number within this dispatch call")
+    public int attempt;
+
+    @Label("HTTP Status")
+    @Description("Response status, 0 if no response was received")
+    public int httpStatus;
+
+    @Label("Trace Id")
+    @Description("W3C trace id sent in the traceparent header")
+    public String traceId;
+
+    @Label("Span Id")
+    @Description("W3C parent id sent in the traceparent header")
+    public String spanId;
+}
@@ -0,0 +1,24 @@
+package com.github.distributedjobscheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code JobScheduler.pollAndDispatch()} cycle, including straggler hedging.
+ */
+@Name("com.github.distributedjobscheduler.PollCycle")
+@Label("Poll Cycle")
+@Category({"Distributed Job Scheduler", "Scheduler"})
+@Description("One poll-and-dispatch cycle of the job scheduler")
+@StackTrace(false)
+public class PollCycleEvent extends jdk.jfr.Event {
+
+    @Label("Pending Jobs")
+    public int pendingJobs;
+
+    @Label("Dispatched Jobs")
+    public int dispatchedJobs;
+}
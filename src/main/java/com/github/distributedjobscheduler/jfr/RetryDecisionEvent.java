@@ -0,0 +1,35 @@
+package com.github.distributedjobscheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The scheduler's decision after a failed dispatch: schedule a retry or mark the job FAILED.
+ */
+@Name("com.github.distributedjobscheduler.RetryDecision")
+@Label("Retry Decision")
+@Category({"Distributed Job Scheduler", "Scheduler"})
+@Description("Retry or give up after a failed dispatch")
+@StackTrace(false)
+public class RetryDecisionEvent extends jdk.jfr.Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Job Type")
+    public String jobType;
+
+    @Label("Retry Count")
+    @Description("Retries used so far, including the one being scheduled")
+    public int retryCount;
+
+    @Label("Max Retries")
+    public int maxRetries;
+
+    @Label("Gave Up")
+    @Description("True if the job was marked FAILED")
+    public boolean gaveUp;
+}
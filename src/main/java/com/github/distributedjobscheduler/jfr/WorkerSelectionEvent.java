@@ -0,0 +1,38 @@
+package com.github.distributedjobscheduler.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@code WorkerRegistry.findAvailableWorker} call made by the scheduler for one job.
+ */
+@Name("com.github.distributedjobscheduler.WorkerSelection")
+@Label("Worker Selection")
+@Category({"Distributed Job Scheduler", "Scheduler"})
+@Description("Selection of a worker for a ready job")
+@StackTrace(false)
+public class WorkerSelectionEvent extends jdk.jfr.Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Job Type")
+    public String jobType;
+
+    @Label("Worker URL")
+    @Description("Selected worker, null if none was available")
+    public String workerUrl;
+
+    @Label("Queue Wait")
+    @Description("Time the job had been ready (QUEUED/RETRY) when selection started; 0 for hedges")
+    @Timespan(Timespan.MILLISECONDS)
+    public long queueWait;
+
+    @Label("Hedge")
+    @Description("True when selecting a second worker for a straggling in-flight job")
+    public boolean hedge;
+}
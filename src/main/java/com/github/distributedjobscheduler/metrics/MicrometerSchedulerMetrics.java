@@ -0,0 +1,221 @@
+package com.github.distributedjobscheduler.metrics;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.storage.JobStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer-backed {@link SchedulerMetrics}.
+ * <p>
+ * Meters are registered once per job type / worker and cached, so recording is a map lookup plus
+ * an atomic update: no tag lists or builders are created on the hot path after the first call for
+ * a given type or worker. Job counts by status are computed from {@link JobStorage} when the
+ * registry is scraped, at most once per {@code statusSnapshotMs}.
+ *
+ * <pre>
+ * job.scheduler.poll.duration          timer
+ * job.scheduler.queue.wait             timer    type
+ * job.scheduler.dispatch.latency       timer    type, worker, outcome
+ * job.scheduler.jobs                   gauge    status
+ * job.scheduler.worker.inflight        gauge    worker
+ * job.scheduler.dispatch.active        gauge
+ * job.scheduler.jobs.retries           counter  type
+ * job.scheduler.jobs.failures          counter  type
+ * </pre>
+ */
+public class MicrometerSchedulerMetrics implements SchedulerMetrics {
+
+    private final MeterRegistry registry;
+    private final boolean percentileHistograms;
+
+    private final Timer pollTimer;
+    private final ConcurrentHashMap<String, TypeMeters> byType = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicInteger> inFlightByWorker = new ConcurrentHashMap<>();
+    private final AtomicInteger activeDispatches = new AtomicInteger();
+
+    private final JobStorage jobStorage;
+    private final long statusSnapshotMs;
+    private final Clock clock;
+    private volatile StatusSnapshot statusSnapshot; // null until the first scrape
+
+    public MicrometerSchedulerMetrics(MeterRegistry registry, JobStorage jobStorage,
+                                      boolean percentileHistograms, long statusSnapshotMs) {
+        this(registry, jobStorage, percentileHistograms, statusSnapshotMs, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock time source for the status snapshot age; the scheduler's clock
+     */
+    public MicrometerSchedulerMetrics(MeterRegistry registry, JobStorage jobStorage,
+                                      boolean percentileHistograms, long statusSnapshotMs, Clock clock) {
+        this.registry = registry;
+        this.jobStorage = jobStorage;
+        this.percentileHistograms = percentileHistograms;
+        this.statusSnapshotMs = statusSnapshotMs;
+        this.clock = clock;
+
+        this.pollTimer = Timer.builder("job.scheduler.poll.duration")
+                .description("Duration of one poll-and-dispatch cycle")
+                .publishPercentileHistogram(percentileHistograms)
+                .register(registry);
+
+        Gauge.builder("job.scheduler.dispatch.active", activeDispatches, AtomicInteger::get)
+                .description("Dispatch calls running on their own virtual thread")
+                .register(registry);
+
+        for (JobStatus status : JobStatus.values()) {
+            Gauge.builder("job.scheduler.jobs", this, m -> m.countByStatus(status))
+                    .description("Jobs in storage by status")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void recordPoll(long durationNanos) {
+        pollTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordQueueWait(Job job, long waitMillis) {
+        meters(job).queueWait.record(Math.max(0, waitMillis), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordDispatch(Job job, String workerUrl, long durationNanos, boolean delivered) {
+        meters(job).dispatchTimer(workerUrl, delivered).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void workerAssigned(String workerUrl) {
+        inFlight(workerUrl).incrementAndGet();
+    }
+
+    @Override
+    public void workerReleased(String workerUrl) {
+        inFlight(workerUrl).decrementAndGet();
+    }
+
+    @Override
+    public void dispatchStarted() {
+        activeDispatches.incrementAndGet();
+    }
+
+    @Override
+    public void dispatchFinished() {
+        activeDispatches.decrementAndGet();
+    }
+
+    @Override
+    public void recordRetry(Job job) {
+        meters(job).retries.increment();
+    }
+
+    @Override
+    public void recordFailure(Job job) {
+        meters(job).failures.increment();
+    }
+
+    private TypeMeters meters(Job job) {
+        String type = job.getType() != null ? job.getType() : "unknown";
+        TypeMeters meters = byType.get(type);
+        return meters != null ? meters : byType.computeIfAbsent(type, TypeMeters::new);
+    }
+
+    private AtomicInteger inFlight(String workerUrl) {
+        AtomicInteger counter = inFlightByWorker.get(workerUrl);
+        if (counter != null) {
+            return counter;
+        }
+        return inFlightByWorker.computeIfAbsent(workerUrl, url -> {
+            AtomicInteger created = new AtomicInteger();
+            Gauge.builder("job.scheduler.worker.inflight", created, AtomicInteger::get)
+                    .description("Jobs dispatched to a worker and not yet finished")
+                    .tag("worker", url)
+                    .register(registry);
+            return created;
+        });
+    }
+
+    private double countByStatus(JobStatus status) {
+        long now = clock.millis();
+        StatusSnapshot snapshot = statusSnapshot;
+        if (snapshot == null || now - snapshot.takenAt >= statusSnapshotMs) {
+            Map<JobStatus, Integer> counts = new EnumMap<>(JobStatus.class);
+            for (Job job : jobStorage.findAll()) {
+                counts.merge(job.getStatus(), 1, Integer::sum);
+            }
+            snapshot = new StatusSnapshot(counts, now);
+            statusSnapshot = snapshot;
+        }
+        return snapshot.counts.getOrDefault(status, 0);
+    }
+
+    private static final class StatusSnapshot {
+        private final Map<JobStatus, Integer> counts;
+        private final long takenAt;
+
+        private StatusSnapshot(Map<JobStatus, Integer> counts, long takenAt) {
+            this.counts = counts;
+            this.takenAt = takenAt;
+        }
+    }
+
+    /**
+     * Meters for one job type. Dispatch timers are further keyed by worker, one per outcome.
+     */
+    private final class TypeMeters {
+        private final String type;
+        private final Timer queueWait;
+        private final Counter retries;
+        private final Counter failures;
+        private final ConcurrentHashMap<String, Timer[]> dispatchByWorker = new ConcurrentHashMap<>();
+
+        private TypeMeters(String type) {
+            this.type = type;
+            this.queueWait = Timer.builder("job.scheduler.queue.wait")
+                    .description("Time a job waited in QUEUED/RETRY before dispatch")
+                    .tag("type", type)
+                    .publishPercentileHistogram(percentileHistograms)
+                    .register(registry);
+            this.retries = Counter.builder("job.scheduler.jobs.retries")
+                    .description("Dispatch failures that were scheduled for retry")
+                    .tag("type", type)
+                    .register(registry);
+            this.failures = Counter.builder("job.scheduler.jobs.failures")
+                    .description("Jobs marked FAILED after exhausting retries")
+                    .tag("type", type)
+                    .register(registry);
+        }
+
+        private Timer dispatchTimer(String workerUrl, boolean delivered) {
+            Timer[] timers = dispatchByWorker.get(workerUrl);
+            if (timers == null) {
+                timers = dispatchByWorker.computeIfAbsent(workerUrl, url -> new Timer[]{
+                        dispatchTimer(url, "success"), dispatchTimer(url, "failure")});
+            }
+            return delivered ? timers[0] : timers[1];
+        }
+
+        private Timer dispatchTimer(String workerUrl, String outcome) {
+            return Timer.builder("job.scheduler.dispatch.latency")
+                    .description("Round trip of a dispatch call to a worker, including retries")
+                    .tag("type", type)
+                    .tag("worker", workerUrl)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram(percentileHistograms)
+                    .register(registry);
+        }
+    }
+}
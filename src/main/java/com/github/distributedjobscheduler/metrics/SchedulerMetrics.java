@@ -0,0 +1,61 @@
+package com.github.distributedjobscheduler.metrics;
+
+import com.github.distributedjobscheduler.model.Job;
+
+/**
+ * Recording hooks called by {@link com.github.distributedjobscheduler.scheduler.JobScheduler}.
+ * <p>
+ * Implementations are called on the dispatch hot path, so they must not block and should not
+ * allocate per call. {@link #NOOP} is used when no metrics backend is configured.
+ */
+public interface SchedulerMetrics {
+
+    SchedulerMetrics NOOP = new SchedulerMetrics() {
+    };
+
+    /**
+     * Duration of one poll-and-dispatch cycle.
+     */
+    default void recordPoll(long durationNanos) {
+    }
+
+    /**
+     * Time a job spent ready (QUEUED or RETRY) before it was assigned to a worker, recorded before
+     * the dispatch call starts.
+     */
+    default void recordQueueWait(Job job, long waitMillis) {
+    }
+
+    /**
+     * Round trip of one dispatch call, including the dispatcher's own retries.
+     */
+    default void recordDispatch(Job job, String workerUrl, long durationNanos, boolean delivered) {
+    }
+
+    /**
+     * A job was assigned to / released from a worker; drives the in-flight-per-worker gauge.
+     */
+    default void workerAssigned(String workerUrl) {
+    }
+
+    default void workerReleased(String workerUrl) {
+    }
+
+    /**
+     * A dispatch was handed to / returned from its own virtual thread; drives the active-dispatch gauge.
+     */
+    default void dispatchStarted() {
+    }
+
+    default void dispatchFinished() {
+    }
+
+    default void recordRetry(Job job) {
+    }
+
+    /**
+     * A job was marked FAILED by the scheduler after exhausting its retries.
+     */
+    default void recordFailure(Job job) {
+    }
+}
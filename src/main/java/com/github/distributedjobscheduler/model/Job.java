@@ -1,10 +1,13 @@
 package com.github.distributedjobscheduler.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import lombok.Getter;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -18,7 +21,17 @@ public class Job {
     // Immutable fields, set at creation
     private final String jobId;
     private final String jobName;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final Map<String, Object> payload;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final PayloadReference payloadRef; // set when the payload lives in a BlobStore
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String routingKey; // jobs sharing a key stick to the same worker (cache affinity)
+    private final boolean idempotent; // safe to execute more than once (allows hedged dispatch)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String idempotencyKey; // producer-supplied; duplicate submissions with the same key are dropped
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> parentJobIds; // job becomes ready once all parents reach SUCCESS
     private final Instant createdAt;
 
     // Mutable fields, updated during the job lifecycle
@@ -27,6 +40,8 @@ public class Job {
     private int retryCount;
     private String type;
     private List<String> requiredCapabilities;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ResourceVector resources; // null means ResourceVector.DEFAULT_REQUEST
 
     /* TODO: To be implement in next version
    /* private final String scheduledAt;
@@ -47,16 +62,28 @@ public class Job {
             @JsonProperty("createdAt") Instant createdAt,
             @JsonProperty("updatedAt") Instant updatedAt,
             @JsonProperty("retryCount") int retryCount,
-            @JsonProperty("requiredCapabilities") List<String> requiredCapabilities) {
+            @JsonProperty("requiredCapabilities") List<String> requiredCapabilities,
+            @JsonProperty("payloadRef") PayloadReference payloadRef,
+            @JsonProperty("routingKey") String routingKey,
+            @JsonProperty("resources") ResourceVector resources,
+            @JsonProperty("idempotent") boolean idempotent,
+            @JsonProperty("idempotencyKey") String idempotencyKey,
+            @JsonProperty("parentJobIds") List<String> parentJobIds) {
         this.jobId = jobId;
         this.jobName = jobName;
         this.type = type;
         this.payload = payload == null ? Map.of() : Map.copyOf(payload);
+        this.payloadRef = payloadRef;
+        this.routingKey = routingKey;
+        this.idempotent = idempotent;
+        this.idempotencyKey = idempotencyKey;
+        this.parentJobIds = parentJobIds == null ? List.of() : List.copyOf(parentJobIds);
         this.status = status == null ? JobStatus.QUEUED : status;
         this.createdAt = createdAt == null ? Instant.now() : createdAt;
         this.updatedAt = updatedAt == null ? this.createdAt : updatedAt;
         this.retryCount = retryCount;
         this.requiredCapabilities = requiredCapabilities == null ? List.of() : List.copyOf(requiredCapabilities);
+        this.resources = resources;
     }
 
     // Builder factory
@@ -64,6 +91,33 @@ public class Job {
         return new Builder(jobId, name, type);
     }
 
+    // Copies every field into a fresh builder (payload map is shared, it is immutable)
+    public Builder toBuilder() {
+        return new Builder(jobId, jobName, type)
+                .payload(payload)
+                .payloadRef(payloadRef)
+                .routingKey(routingKey)
+                .idempotent(idempotent)
+                .idempotencyKey(idempotencyKey)
+                .parentJobIds(parentJobIds)
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .retryCount(retryCount)
+                .requiredCapabilities(requiredCapabilities)
+                .resources(resources);
+    }
+
+    @JsonIgnore
+    public ResourceVector getEffectiveResources() {
+        return resources != null ? resources : ResourceVector.DEFAULT_REQUEST;
+    }
+
+    @JsonIgnore
+    public boolean isPayloadOffloaded() {
+        return payloadRef != null;
+    }
+
     // Convenience factory for the example SubmitJobRequest (keeps example code simple)
     // Note: the example DTO lives in the example module; fully-qualified name used to avoid starter dependency.
     public static Job fromSubmitRequest(Object submitReq, String jobId) {
@@ -101,11 +155,18 @@ public class Job {
         private final String name;
         private final String type;
         private Map<String, Object> payload = Map.of();
+        private PayloadReference payloadRef;
+        private String routingKey;
+        private boolean idempotent;
+        private String idempotencyKey;
+        private List<String> parentJobIds = List.of();
         private JobStatus status = JobStatus.QUEUED;
-        private Instant createdAt = Instant.now();
-        private Instant updatedAt = createdAt;
+        private Clock clock = Clock.systemUTC();
+        private Instant createdAt; // null: clock.instant() at build()
+        private Instant updatedAt; // null: createdAt
         private int retryCount = 0;
         private List<String> requiredCapabilities = List.of();
+        private ResourceVector resources;
 
         private Builder(String jobId, String name, String type) {
             this.jobId = Objects.requireNonNull(jobId, "jobId");
@@ -118,18 +179,55 @@ public class Job {
             return this;
         }
 
+        public Builder payloadRef(PayloadReference payloadRef) {
+            this.payloadRef = payloadRef;
+            return this;
+        }
+
+        public Builder routingKey(String routingKey) {
+            this.routingKey = routingKey;
+            return this;
+        }
+
+        public Builder idempotent(boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        public Builder idempotencyKey(String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+            return this;
+        }
+
+        public Builder parentJobIds(List<String> parentJobIds) {
+            this.parentJobIds = parentJobIds == null ? List.of() : List.copyOf(parentJobIds);
+            return this;
+        }
+
         public Builder status(JobStatus status) {
             this.status = status;
             return this;
         }
 
+        /**
+         * Time source for {@code createdAt} when it is not set explicitly; the simulator passes its
+         * virtual clock so job ages are not measured against wall time.
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
         public Builder createdAt(Instant createdAt) {
-            this.createdAt = createdAt == null ? Instant.now() : createdAt;
+            this.createdAt = createdAt;
             return this;
         }
 
+        /**
+         * Defaults to {@code createdAt}.
+         */
         public Builder updatedAt(Instant updatedAt) {
-            this.updatedAt = updatedAt == null ? this.createdAt : updatedAt;
+            this.updatedAt = updatedAt;
             return this;
         }
 
@@ -143,8 +241,15 @@ public class Job {
             return this;
         }
 
+        public Builder resources(ResourceVector resources) {
+            this.resources = resources;
+            return this;
+        }
+
         public Job build() {
-            return new Job(jobId, name, type, payload, status, createdAt, updatedAt, retryCount, requiredCapabilities);
+            Instant created = createdAt != null ? createdAt : clock.instant();
+            Instant updated = updatedAt != null ? updatedAt : created;
+            return new Job(jobId, name, type, payload, status, created, updated, retryCount, requiredCapabilities, payloadRef, routingKey, resources, idempotent, idempotencyKey, parentJobIds);
         }
     }
 
@@ -1,6 +1,7 @@
 package com.github.distributedjobscheduler.model;
 
 public enum JobStatus {
+    WAITING, // waiting for parent jobs to succeed
     QUEUED,
     IN_PROGRESS,
     SUCCESS,
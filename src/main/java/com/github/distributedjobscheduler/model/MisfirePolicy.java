@@ -0,0 +1,15 @@
+package com.github.distributedjobscheduler.model;
+
+/**
+ * What a recurring job does about fire times missed while no scheduler node was running.
+ * A fire counts as missed once the fire after it is due as well; a fire that is merely late
+ * is always materialized.
+ */
+public enum MisfirePolicy {
+    /** Fire once for all missed fire times, then resume the normal schedule. */
+    FIRE_ONCE,
+    /** Fire for every missed fire time (bounded by job.scheduler.recurring.max-catch-up). */
+    CATCH_UP,
+    /** Drop missed fire times and wait for the next one in the future. */
+    SKIP
+}
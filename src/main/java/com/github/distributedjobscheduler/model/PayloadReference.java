@@ -0,0 +1,33 @@
+package com.github.distributedjobscheduler.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Pointer to a job payload that has been offloaded to a {@code BlobStore}.
+ * Carries just enough to locate the blob and verify it after it has been read back.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PayloadReference {
+
+    private final String blobId;
+    private final long size;
+    private final long checksum; // CRC32C of the serialized payload
+
+    @JsonCreator
+    public PayloadReference(
+            @JsonProperty("blobId") String blobId,
+            @JsonProperty("size") long size,
+            @JsonProperty("checksum") long checksum) {
+        this.blobId = Objects.requireNonNull(blobId, "blobId");
+        this.size = size;
+        this.checksum = checksum;
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.distributedjobscheduler.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Template for a job that is materialized on a schedule, either from a cron expression
+ * (evaluated in {@link #getZone()}) or at a fixed rate.
+ */
+@Getter
+public class RecurringJobDefinition {
+
+    private final String id;
+    @JsonProperty("name")
+    private final String jobName;
+    private final String type;
+    private final Map<String, Object> payload;
+    private final List<String> requiredCapabilities;
+    private final String cron;
+    private final Duration fixedRate;
+    private final ZoneId zone;
+    private final MisfirePolicy misfirePolicy;
+
+    @JsonIgnore
+    private final CronExpression cronExpression;
+
+    @JsonCreator
+    public RecurringJobDefinition(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String jobName,
+            @JsonProperty("type") String type,
+            @JsonProperty("payload") Map<String, Object> payload,
+            @JsonProperty("requiredCapabilities") List<String> requiredCapabilities,
+            @JsonProperty("cron") String cron,
+            @JsonProperty("fixedRate") Duration fixedRate,
+            @JsonProperty("zone") ZoneId zone,
+            @JsonProperty("misfirePolicy") MisfirePolicy misfirePolicy) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.jobName = Objects.requireNonNull(jobName, "name");
+        this.type = Objects.requireNonNull(type, "type");
+        this.payload = payload == null ? Map.of() : Map.copyOf(payload);
+        this.requiredCapabilities = requiredCapabilities == null ? List.of() : List.copyOf(requiredCapabilities);
+        if ((cron == null) == (fixedRate == null)) {
+            throw new IllegalArgumentException("Recurring job " + id + " needs exactly one of cron or fixedRate");
+        }
+        if (fixedRate != null && (fixedRate.isZero() || fixedRate.isNegative())) {
+            throw new IllegalArgumentException("Recurring job " + id + " has a non-positive fixedRate: " + fixedRate);
+        }
+        this.cron = cron;
+        this.fixedRate = fixedRate;
+        this.cronExpression = cron == null ? null : CronExpression.parse(cron);
+        this.zone = zone == null ? ZoneId.systemDefault() : zone;
+        this.misfirePolicy = misfirePolicy == null ? MisfirePolicy.FIRE_ONCE : misfirePolicy;
+    }
+
+    public static Builder builder(String id, String name, String type) {
+        return new Builder(id, name, type);
+    }
+
+    /**
+     * First fire time strictly after {@code after}, or {@code null} if the cron expression never fires again.
+     */
+    public Instant nextFireAfter(Instant after) {
+        if (fixedRate != null) {
+            return after.plus(fixedRate);
+        }
+        ZonedDateTime next = cronExpression.next(after.atZone(zone));
+        return next == null ? null : next.toInstant();
+    }
+
+    /**
+     * Materializes the job for one fire time. The job id is derived from the fire time so every
+     * scheduler node produces the same id for the same fire.
+     */
+    public Job toJob(Instant fireTime) {
+        return Job.builder(id + "@" + fireTime.toEpochMilli(), jobName, type)
+                .payload(payload)
+                .requiredCapabilities(requiredCapabilities)
+                .createdAt(fireTime)
+                .build();
+    }
+
+    // Builder
+    public static final class Builder {
+        private final String id;
+        private final String name;
+        private final String type;
+        private Map<String, Object> payload = Map.of();
+        private List<String> requiredCapabilities = List.of();
+        private String cron;
+        private Duration fixedRate;
+        private ZoneId zone;
+        private MisfirePolicy misfirePolicy = MisfirePolicy.FIRE_ONCE;
+
+        private Builder(String id, String name, String type) {
+            this.id = Objects.requireNonNull(id, "id");
+            this.name = Objects.requireNonNull(name, "name");
+            this.type = Objects.requireNonNull(type, "type");
+        }
+
+        public Builder payload(Map<String, Object> payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public Builder requiredCapabilities(List<String> requiredCapabilities) {
+            this.requiredCapabilities = requiredCapabilities;
+            return this;
+        }
+
+        public Builder cron(String cron) {
+            this.cron = cron;
+            return this;
+        }
+
+        public Builder fixedRate(Duration fixedRate) {
+            this.fixedRate = fixedRate;
+            return this;
+        }
+
+        public Builder zone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        public Builder misfirePolicy(MisfirePolicy misfirePolicy) {
+            this.misfirePolicy = misfirePolicy;
+            return this;
+        }
+
+        public RecurringJobDefinition build() {
+            return new RecurringJobDefinition(id, name, type, payload, requiredCapabilities, cron, fixedRate, zone, misfirePolicy);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecurringJobDefinition)) return false;
+        return Objects.equals(id, ((RecurringJobDefinition) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "RecurringJobDefinition{" + "id='" + id + '\'' + ", type='" + type + '\''
+                + ", schedule='" + (cron != null ? cron + " " + zone : "every " + fixedRate) + '\'' + '}';
+    }
+}
@@ -13,6 +13,9 @@ public class RegisterWorkerRequest {
     @Getter
     private String host;
     private List<String> capabilities;
+    @Setter
+    @Getter
+    private ResourceVector capacity; // optional; omit for workers without a capacity limit
 
     public List<String> getCapabilities() {
         return capabilities;
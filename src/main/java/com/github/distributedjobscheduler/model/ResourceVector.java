@@ -0,0 +1,35 @@
+package com.github.distributedjobscheduler.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resource amounts used both as a worker's advertised capacity and as a job's demand.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class ResourceVector {
+
+    /**
+     * Demand assumed for jobs that do not declare resources: one execution slot, no memory.
+     */
+    public static final ResourceVector DEFAULT_REQUEST = new ResourceVector(1, 0);
+
+    private final int cpuSlots;
+    private final long memoryMb;
+
+    @JsonCreator
+    public ResourceVector(
+            @JsonProperty("cpuSlots") int cpuSlots,
+            @JsonProperty("memoryMb") long memoryMb) {
+        if (cpuSlots < 0 || memoryMb < 0) {
+            throw new IllegalArgumentException("Resources must not be negative: cpuSlots=" + cpuSlots + ", memoryMb=" + memoryMb);
+        }
+        this.cpuSlots = cpuSlots;
+        this.memoryMb = memoryMb;
+    }
+}
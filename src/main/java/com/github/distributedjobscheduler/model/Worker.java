@@ -1,9 +1,13 @@
 package com.github.distributedjobscheduler.model;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Data
 public class Worker {
@@ -14,4 +18,25 @@ public class Worker {
     private Instant lastHeartbeat;
     private WorkerStatus status;
 
+    // advertised capacity; null means the worker does not limit concurrent work, a 0 dimension is not limited
+    private ResourceVector capacity;
+
+    // capabilities encoded by the registry's CapabilityIndex
+    @ToString.Exclude
+    private long[] capabilityMask;
+
+    // jobs dispatched to this worker that have not completed yet
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // resources reserved by in-flight jobs
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicInteger usedCpuSlots = new AtomicInteger();
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicLong usedMemoryMb = new AtomicLong();
+
 }
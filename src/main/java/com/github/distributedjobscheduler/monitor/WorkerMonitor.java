@@ -1,7 +1,7 @@
 package com.github.distributedjobscheduler.monitor;
 
 import com.github.distributedjobscheduler.config.WorkerProperties;
-import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
+import com.github.distributedjobscheduler.registry.WorkerRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,11 +14,11 @@ public class WorkerMonitor {
 
     private static final Logger log = LoggerFactory.getLogger(WorkerMonitor.class);
 
-    private final InMemoryWorkerRegistry inMemoryWorkerRegistry;
+    private final WorkerRegistry workerRegistry;
     private final WorkerProperties workerProperties;
 
-    public WorkerMonitor(InMemoryWorkerRegistry inMemoryWorkerRegistry, WorkerProperties workerProperties) {
-        this.inMemoryWorkerRegistry = inMemoryWorkerRegistry;
+    public WorkerMonitor(WorkerRegistry workerRegistry, WorkerProperties workerProperties) {
+        this.workerRegistry = workerRegistry;
         this.workerProperties = workerProperties;
     }
 
@@ -29,7 +29,7 @@ public class WorkerMonitor {
     @Scheduled(fixedDelayString = "${job.worker.heartbeat-interval-ms:30000}")
     public void detectStaleWorkers() {
         log.debug("WorkerMonitor: starting stale-worker detection (timeout={}ms)", workerProperties.getTimeout());
-        inMemoryWorkerRegistry.detectStaleWorkers(Duration.ofMillis(workerProperties.getTimeout()));
+        workerRegistry.detectStaleWorkers(Duration.ofMillis(workerProperties.getTimeout()));
         log.debug("WorkerMonitor: completed stale-worker detection");
     }
 }
@@ -1,15 +1,47 @@
 package com.github.distributedjobscheduler.registry;
 
 import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.ResourceVector;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
 
 public interface WorkerRegistry {
 
     void registerWorker(String workerId, String host, String... capabilities);
+
+    /**
+     * Registers a worker that advertises a resource capacity. Registries without
+     * capacity-aware placement fall back to {@link #registerWorker(String, String, String...)}.
+     */
+    default void registerWorker(String workerId, String host, ResourceVector capacity, String... capabilities) {
+        registerWorker(workerId, host, capabilities);
+    }
     Optional<String> findAvailableWorker(Job job);
+
+    /**
+     * Like {@link #findAvailableWorker(Job)} but never returns one of the excluded worker URLs
+     * (used to place a hedged duplicate on a different worker).
+     */
+    default Optional<String> findAvailableWorker(Job job, Set<String> excludedWorkerUrls) {
+        return findAvailableWorker(job).filter(url -> !excludedWorkerUrls.contains(url));
+    }
     void updateHeartbeat(String workerId);
     void detectStaleWorkers(Duration timeout);
 
+    /**
+     * Called after a job was successfully handed to the worker at {@code workerUrl}.
+     * Registries that balance by load use this to count in-flight work.
+     */
+    default void onJobDispatched(Job job, String workerUrl) {
+    }
+
+    /**
+     * Called when a job previously reported via {@link #onJobDispatched} is no longer running
+     * on that worker (completed, failed or requeued).
+     */
+    default void onJobReleased(Job job, String workerUrl) {
+    }
+
 }
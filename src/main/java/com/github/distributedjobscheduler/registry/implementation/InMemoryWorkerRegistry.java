@@ -1,11 +1,16 @@
 package com.github.distributedjobscheduler.registry.implementation;
 
 import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.ResourceVector;
 import com.github.distributedjobscheduler.model.Worker;
 import com.github.distributedjobscheduler.model.WorkerStatus;
 import com.github.distributedjobscheduler.registry.WorkerRegistry;
+import com.github.distributedjobscheduler.registry.routing.CapabilityIndex;
+import com.github.distributedjobscheduler.registry.routing.ConsistentHashRing;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
@@ -14,38 +19,112 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class InMemoryWorkerRegistry implements WorkerRegistry {
 
+    private static final int DEFAULT_VIRTUAL_NODES = 100;
+    private static final double DEFAULT_LOAD_FACTOR = 1.25;
+
     private final Map<String, Worker> workers = new ConcurrentHashMap<>();
+    private final Map<String, Worker> workersByHost = new ConcurrentHashMap<>();
+
+    // one ring of ACTIVE workers per capability, rebuilt on membership changes
+    private volatile Map<String, ConsistentHashRing> rings = Map.of();
+
+    private final CapabilityIndex capabilityIndex = new CapabilityIndex();
+
+    private final int virtualNodes;
+    private final double loadFactor;
+    private final PlacementStrategy placement;
+
+    // source of heartbeat timestamps; a virtual clock under simulation
+    private final Clock clock;
+
+    public InMemoryWorkerRegistry() {
+        this(DEFAULT_VIRTUAL_NODES, DEFAULT_LOAD_FACTOR, PlacementStrategy.BEST_FIT);
+    }
+
+    public InMemoryWorkerRegistry(int virtualNodes, double loadFactor, PlacementStrategy placement) {
+        this(virtualNodes, loadFactor, placement, Clock.systemUTC());
+    }
+
+    public InMemoryWorkerRegistry(int virtualNodes, double loadFactor, PlacementStrategy placement, Clock clock) {
+        this.virtualNodes = virtualNodes;
+        this.loadFactor = loadFactor;
+        this.placement = placement;
+        this.clock = clock;
+    }
 
     @Override
     public void registerWorker(String workerId, String host, String... capabilities) {
+        registerWorker(workerId, host, null, capabilities);
+    }
+
+    @Override
+    public void registerWorker(String workerId, String host, ResourceVector capacity, String... capabilities) {
         Worker worker = new Worker();
         worker.setWorkerId(workerId);
         worker.setHost(host);
         worker.setCapabilities(Arrays.asList(capabilities));
-        worker.setLastHeartbeat(Instant.now());
+        worker.setCapabilityMask(capabilityIndex.register(worker.getCapabilities()));
+        worker.setCapacity(capacity);
+        worker.setLastHeartbeat(clock.instant());
         worker.setStatus(WorkerStatus.ACTIVE);
-        workers.put(workerId, worker);
+        Worker previous = workers.put(workerId, worker);
+        if (previous != null) {
+            workersByHost.remove(previous.getHost(), previous);
+        }
+        workersByHost.put(host, worker);
+        rebuildRings();
 
-        log.info("Worker registered: id={}, host={}, capabilities={}", workerId, host, Arrays.toString(capabilities));
+        log.info("Worker registered: id={}, host={}, capabilities={}, capacity={}", workerId, host, Arrays.toString(capabilities), capacity);
     }
 
     @Override
     public Optional<String> findAvailableWorker(Job job) {
-        String requiredCapability = job.getType(); // Assuming Job has a "type" field
-        return workers.values().stream()
-                .filter(worker -> worker.getStatus() == WorkerStatus.ACTIVE)
-                .filter(worker -> worker.getCapabilities().contains(requiredCapability))
-                .findAny()
-                .map(Worker::getHost);
+        return findAvailableWorker(job, Set.of());
+    }
+
+    @Override
+    public Optional<String> findAvailableWorker(Job job, Set<String> excludedWorkerUrls) {
+        // job type plus requiredCapabilities, as a bitmask; null if nobody ever advertised one of them
+        long[] requiredMask = capabilityIndex.lookup(job.getType(), job.getRequiredCapabilities());
+        if (requiredMask == null) {
+            return Optional.empty();
+        }
+        ResourceVector demand = job.getEffectiveResources();
+
+        if (job.getRoutingKey() != null) {
+            return rings.getOrDefault(job.getType(), ConsistentHashRing.empty())
+                    .select(job.getRoutingKey(), loadFactor,
+                            worker -> canRun(worker, requiredMask, demand) && !excludedWorkerUrls.contains(worker.getHost()))
+                    .map(Worker::getHost);
+        }
+
+        Worker best = null;
+        double bestScore = 0;
+        for (Worker worker : workers.values()) {
+            if (!canRun(worker, requiredMask, demand) || excludedWorkerUrls.contains(worker.getHost())) {
+                continue;
+            }
+            if (placement == PlacementStrategy.ANY) {
+                return Optional.of(worker.getHost());
+            }
+            double score = remainingAfter(worker, demand);
+            boolean better = placement == PlacementStrategy.BEST_FIT ? score < bestScore : score > bestScore;
+            if (best == null || better) {
+                best = worker;
+                bestScore = score;
+            }
+        }
+        return Optional.ofNullable(best).map(Worker::getHost);
     }
 
     @Override
     public void updateHeartbeat(String workerId) {
         Worker worker = workers.get(workerId);
         if (worker != null) {
-            worker.setLastHeartbeat(Instant.now());
+            worker.setLastHeartbeat(clock.instant());
             if (worker.getStatus() != WorkerStatus.ACTIVE) {
                 worker.setStatus(WorkerStatus.ACTIVE);
+                rebuildRings();
                 log.info("Worker {} marked ACTIVE via heartbeat", workerId);
             }
         } else {
@@ -55,15 +134,42 @@ public class InMemoryWorkerRegistry implements WorkerRegistry {
 
     @Override
     public void detectStaleWorkers(Duration timeout) {
-        Instant cutoff = Instant.now().minus(timeout);
+        Instant cutoff = clock.instant().minus(timeout);
+        boolean changed = false;
         for (Worker worker : workers.values()) {
             if (worker.getLastHeartbeat().isBefore(cutoff)) {
                 if (worker.getStatus() != WorkerStatus.STALE) {
                     worker.setStatus(WorkerStatus.STALE);
+                    changed = true;
                     log.warn("Worker {} marked STALE (last seen at {})", worker.getWorkerId(), worker.getLastHeartbeat());
                 }
             }
         }
+        if (changed) {
+            rebuildRings();
+        }
+    }
+
+    @Override
+    public void onJobDispatched(Job job, String workerUrl) {
+        Worker worker = workersByHost.get(workerUrl);
+        if (worker != null) {
+            ResourceVector demand = job.getEffectiveResources();
+            worker.getInFlight().incrementAndGet();
+            worker.getUsedCpuSlots().addAndGet(demand.getCpuSlots());
+            worker.getUsedMemoryMb().addAndGet(demand.getMemoryMb());
+        }
+    }
+
+    @Override
+    public void onJobReleased(Job job, String workerUrl) {
+        Worker worker = workersByHost.get(workerUrl);
+        if (worker != null) {
+            ResourceVector demand = job.getEffectiveResources();
+            worker.getInFlight().updateAndGet(n -> Math.max(0, n - 1));
+            worker.getUsedCpuSlots().updateAndGet(n -> Math.max(0, n - demand.getCpuSlots()));
+            worker.getUsedMemoryMb().updateAndGet(n -> Math.max(0, n - demand.getMemoryMb()));
+        }
     }
 
     public List<Worker> getAllWorkers() {
@@ -74,7 +180,61 @@ public class InMemoryWorkerRegistry implements WorkerRegistry {
         Worker worker = workers.get(workerId);
         if (worker != null) {
             worker.setStatus(status);
+            rebuildRings();
             log.info("Worker status updated: id={}, status={}", workerId, status);
         }
     }
+
+    private static boolean canRun(Worker worker, long[] requiredMask, ResourceVector demand) {
+        return worker.getStatus() == WorkerStatus.ACTIVE
+                && CapabilityIndex.containsAll(worker.getCapabilityMask(), requiredMask)
+                && fits(worker, demand);
+    }
+
+    /**
+     * A dimension the worker declares as 0 is not limited, consistent with {@link #remainingAfter}.
+     */
+    private static boolean fits(Worker worker, ResourceVector demand) {
+        ResourceVector capacity = worker.getCapacity();
+        return capacity == null
+                || ((capacity.getCpuSlots() == 0 || worker.getUsedCpuSlots().get() + demand.getCpuSlots() <= capacity.getCpuSlots())
+                && (capacity.getMemoryMb() == 0 || worker.getUsedMemoryMb().get() + demand.getMemoryMb() <= capacity.getMemoryMb()));
+    }
+
+    /**
+     * Fraction of the worker's capacity left after placing the demand, averaged over both
+     * dimensions. Unbounded dimensions (declared as 0, see {@link #fits}) count as fully free.
+     */
+    private static double remainingAfter(Worker worker, ResourceVector demand) {
+        ResourceVector capacity = worker.getCapacity();
+        if (capacity == null) {
+            return 1.0;
+        }
+        return (remaining(capacity.getCpuSlots(), worker.getUsedCpuSlots().get(), demand.getCpuSlots())
+                + remaining(capacity.getMemoryMb(), worker.getUsedMemoryMb().get(), demand.getMemoryMb())) / 2;
+    }
+
+    private static double remaining(long capacity, long used, long demand) {
+        return capacity == 0 ? 1.0 : (double) (capacity - used - demand) / capacity;
+    }
+
+    /**
+     * Rebuilds the per-capability rings from the current ACTIVE workers. Only the virtual nodes
+     * of workers that joined or left move, so most routing keys keep their worker.
+     */
+    private synchronized void rebuildRings() {
+        Map<String, List<Worker>> byCapability = new HashMap<>();
+        for (Worker worker : workers.values()) {
+            if (worker.getStatus() != WorkerStatus.ACTIVE) {
+                continue;
+            }
+            for (String capability : worker.getCapabilities()) {
+                byCapability.computeIfAbsent(capability, c -> new ArrayList<>()).add(worker);
+            }
+        }
+        Map<String, ConsistentHashRing> rebuilt = new HashMap<>();
+        byCapability.forEach((capability, members) ->
+                rebuilt.put(capability, ConsistentHashRing.build(members, virtualNodes)));
+        rings = rebuilt;
+    }
 }
@@ -0,0 +1,68 @@
+package com.github.distributedjobscheduler.registry.routing;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns capability names to bit positions so capability sets can be compared as bitmasks.
+ * A worker satisfies a job when the job's mask is a subset of the worker's mask.
+ */
+public final class CapabilityIndex {
+
+    private final Map<String, Integer> bits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBit = new AtomicInteger();
+
+    /**
+     * Mask for a capability set advertised by a worker; unknown names are assigned new bits.
+     */
+    public long[] register(Collection<String> capabilities) {
+        long[] mask = new long[0];
+        for (String capability : capabilities) {
+            mask = set(mask, bits.computeIfAbsent(capability, c -> nextBit.getAndIncrement()));
+        }
+        return mask;
+    }
+
+    /**
+     * Mask for a capability set required by a job, or {@code null} if any name has never been
+     * advertised (in which case no worker can satisfy it).
+     */
+    public long[] lookup(String type, Collection<String> capabilities) {
+        Integer typeBit = bits.get(type);
+        if (typeBit == null) {
+            return null;
+        }
+        long[] mask = set(new long[0], typeBit);
+        for (String capability : capabilities) {
+            Integer bit = bits.get(capability);
+            if (bit == null) {
+                return null;
+            }
+            mask = set(mask, bit);
+        }
+        return mask;
+    }
+
+    public static boolean containsAll(long[] available, long[] required) {
+        for (int i = 0; i < required.length; i++) {
+            long have = i < available.length ? available[i] : 0L;
+            if ((required[i] & ~have) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] set(long[] mask, int bit) {
+        int word = bit >>> 6;
+        if (word >= mask.length) {
+            long[] grown = new long[word + 1];
+            System.arraycopy(mask, 0, grown, 0, mask.length);
+            mask = grown;
+        }
+        mask[word] |= 1L << (bit & 63);
+        return mask;
+    }
+}
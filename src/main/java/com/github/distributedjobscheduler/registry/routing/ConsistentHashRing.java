@@ -0,0 +1,162 @@
+package com.github.distributedjobscheduler.registry.routing;
+
+import com.github.distributedjobscheduler.model.Worker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable consistent-hash ring over a set of workers, with virtual nodes and bounded loads.
+ * <p>
+ * A key maps to the first worker clockwise from its hash. With bounded loads a worker is skipped
+ * while its in-flight count is at or above {@code ceil(loadFactor * (totalLoad + 1) / members)},
+ * so hot keys spill over to the next worker on the ring instead of overloading one node.
+ * Rings are rebuilt (not mutated) when membership changes, so lookups need no locking.
+ */
+public final class ConsistentHashRing {
+
+    private static final ConsistentHashRing EMPTY = new ConsistentHashRing(new long[0], new Worker[0], new Worker[0]);
+
+    private final long[] points;   // sorted hash positions
+    private final Worker[] owners; // owners[i] owns points[i]
+    private final Worker[] members;
+
+    private ConsistentHashRing(long[] points, Worker[] owners, Worker[] members) {
+        this.points = points;
+        this.owners = owners;
+        this.members = members;
+    }
+
+    public static ConsistentHashRing empty() {
+        return EMPTY;
+    }
+
+    public static ConsistentHashRing build(Collection<Worker> workers, int virtualNodes) {
+        if (workers.isEmpty()) {
+            return EMPTY;
+        }
+        int replicas = Math.max(1, virtualNodes);
+        int size = workers.size() * replicas;
+
+        // sort (hash, owner) pairs by hash via an index permutation
+        long[] hashes = new long[size];
+        Worker[] unsortedOwners = new Worker[size];
+        int i = 0;
+        for (Worker worker : workers) {
+            for (int v = 0; v < replicas; v++) {
+                hashes[i] = hash(worker.getWorkerId() + "#" + v);
+                unsortedOwners[i] = worker;
+                i++;
+            }
+        }
+        Integer[] order = new Integer[size];
+        for (int j = 0; j < size; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, (a, b) -> Long.compareUnsigned(hashes[a], hashes[b]));
+
+        long[] points = new long[size];
+        Worker[] owners = new Worker[size];
+        for (int j = 0; j < size; j++) {
+            points[j] = hashes[order[j]];
+            owners[j] = unsortedOwners[order[j]];
+        }
+        return new ConsistentHashRing(points, owners, workers.toArray(new Worker[0]));
+    }
+
+    public boolean isEmpty() {
+        return members.length == 0;
+    }
+
+    public int size() {
+        return members.length;
+    }
+
+    /**
+     * Selects the worker for the given key.
+     *
+     * @param key        routing key
+     * @param loadFactor bounded-load factor (e.g. 1.25); values {@code <= 0} disable load bounding
+     * @param eligible   additional filter (health, capacity, exclusions)
+     */
+    public Optional<Worker> select(String key, double loadFactor, Predicate<Worker> eligible) {
+        if (points.length == 0) {
+            return Optional.empty();
+        }
+        int start = indexOf(hash(key));
+        long capacity = -1; // computed lazily, only when a candidate already has work
+        Set<Worker> rejected = null;
+
+        for (int n = 0; n < points.length; n++) {
+            Worker candidate = owners[(start + n) % points.length];
+            if (rejected != null && rejected.contains(candidate)) {
+                continue;
+            }
+            boolean accept = eligible.test(candidate);
+            if (accept && loadFactor > 0) {
+                int load = candidate.getInFlight().get();
+                if (load > 0) {
+                    if (capacity < 0) {
+                        capacity = capacity(loadFactor);
+                    }
+                    accept = load < capacity;
+                }
+            }
+            if (accept) {
+                return Optional.of(candidate);
+            }
+            if (rejected == null) {
+                rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            rejected.add(candidate);
+            if (rejected.size() == members.length) {
+                break;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private long capacity(double loadFactor) {
+        long total = 0;
+        for (Worker member : members) {
+            total += member.getInFlight().get();
+        }
+        return (long) Math.ceil(loadFactor * (total + 1) / members.length);
+    }
+
+    // first point >= hash, wrapping around to 0
+    private int indexOf(long hash) {
+        int lo = 0;
+        int hi = points.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Long.compareUnsigned(points[mid], hash) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo == points.length ? 0 : lo;
+    }
+
+    // FNV-1a over UTF-8 bytes followed by the splitmix64 finalizer for better avalanche
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 30;
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= h >>> 27;
+        h *= 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.distributedjobscheduler.registry.routing;
+
+/**
+ * How the registry chooses among workers that can run a job.
+ */
+public enum PlacementStrategy {
+    /** First capable worker found (no capacity scoring). */
+    ANY,
+    /** Worker with the least capacity left after placement; packs jobs tightly so large workers stay free. */
+    BEST_FIT,
+    /** Worker with the most capacity left after placement; spreads load evenly. */
+    SPREAD
+}
@@ -2,16 +2,34 @@ package com.github.distributedjobscheduler.scheduler;
 
 import com.github.distributedjobscheduler.config.SchedulerProperties;
 import com.github.distributedjobscheduler.dispatcher.JobDispatcher;
+import com.github.distributedjobscheduler.jfr.PollCycleEvent;
+import com.github.distributedjobscheduler.jfr.RetryDecisionEvent;
+import com.github.distributedjobscheduler.jfr.WorkerSelectionEvent;
+import com.github.distributedjobscheduler.metrics.SchedulerMetrics;
 import com.github.distributedjobscheduler.model.Job;
 import com.github.distributedjobscheduler.model.JobStatus;
 import com.github.distributedjobscheduler.registry.WorkerRegistry;
+import com.github.distributedjobscheduler.scheduler.hedging.HedgePolicy;
 import com.github.distributedjobscheduler.storage.JobStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Periodically fetch jobs from storage (e.g., with status QUEUED or RETRY).
@@ -25,6 +43,10 @@ public class JobScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(JobScheduler.class);
 
+    private static final Set<JobStatus> DISPATCHABLE = EnumSet.of(JobStatus.QUEUED, JobStatus.RETRY);
+    // a failed dispatch may requeue or fail the job only while nobody has reported a result for it
+    private static final Set<JobStatus> RETRYABLE = EnumSet.of(JobStatus.QUEUED, JobStatus.RETRY, JobStatus.IN_PROGRESS);
+
     private final JobStorage jobStorage;
     private final WorkerRegistry workerRegistry;
     private final JobDispatcher jobDispatcher;
@@ -33,17 +55,63 @@ public class JobScheduler {
 
     // handle for scheduled task so we can cancel on stop
     private ScheduledFuture<?> scheduledFuture;
+    private volatile boolean running;
+
+    // children released by a finished parent, dispatched without waiting for the next poll
+    private final Queue<Job> readyQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    // serializes the poll cycle and ready-queue drains so a job is never dispatched twice
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    // jobs handed to a worker that have not finished yet, by jobId
+    private final Map<String, InFlightJob> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger hedgesInFlight = new AtomicInteger();
+    private final HedgePolicy hedgePolicy;
+    private final SchedulerMetrics metrics;
+    private final Clock clock;
+
+    // VIRTUAL mode: dispatches run on their own virtual thread, at most maxConcurrentDispatches at once
+    private final boolean asyncDispatch;
+    private final Semaphore dispatchPermits;
 
     public JobScheduler(JobStorage jobStorage,
                         WorkerRegistry workerRegistry,
                         JobDispatcher jobDispatcher,
                         SchedulerTaskExecutor executor,
                         SchedulerProperties props) {
+        this(jobStorage, workerRegistry, jobDispatcher, executor, props, SchedulerMetrics.NOOP);
+    }
+
+    public JobScheduler(JobStorage jobStorage,
+                        WorkerRegistry workerRegistry,
+                        JobDispatcher jobDispatcher,
+                        SchedulerTaskExecutor executor,
+                        SchedulerProperties props,
+                        SchedulerMetrics metrics) {
+        this(jobStorage, workerRegistry, jobDispatcher, executor, props, metrics, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock time source for queue-wait and in-flight run times; a virtual clock under simulation
+     */
+    public JobScheduler(JobStorage jobStorage,
+                        WorkerRegistry workerRegistry,
+                        JobDispatcher jobDispatcher,
+                        SchedulerTaskExecutor executor,
+                        SchedulerProperties props,
+                        SchedulerMetrics metrics,
+                        Clock clock) {
+        this.metrics = metrics;
+        this.clock = clock;
         this.jobStorage = jobStorage;
         this.workerRegistry = workerRegistry;
         this.jobDispatcher = jobDispatcher;
         this.executor = executor;
         this.props = props;
+        this.hedgePolicy = new HedgePolicy(props.getHedging());
+        this.asyncDispatch = executor.isAsyncDispatch();
+        this.dispatchPermits = new Semaphore(Math.max(1, props.getMaxConcurrentDispatches()));
+        this.jobStorage.addStatusListener(this::onStatusChange);
     }
 
     /**
@@ -56,14 +124,17 @@ public class JobScheduler {
             return;
         }
         long interval = props.getPollIntervalMs();
-        log.info("Starting JobScheduler (pollIntervalMs={}, maxRetries={})", interval, props.getMaxRetries());
+        log.info("Starting JobScheduler (pollIntervalMs={}, maxRetries={}, asyncDispatch={})",
+                interval, props.getMaxRetries(), asyncDispatch);
         scheduledFuture = executor.scheduleAtFixedRate(this::pollAndDispatch, 0, interval);
+        running = true;
     }
 
     /**
      * Stops the scheduler and cancels the scheduled task.
      */
     public synchronized void stop() {
+        running = false;
         if (scheduledFuture != null) {
             scheduledFuture.cancel(false);
             scheduledFuture = null;
@@ -78,52 +149,373 @@ public class JobScheduler {
      * Kept public for easier unit testing.
      */
     public void pollAndDispatch() {
+        long startedAt = System.nanoTime();
+        PollCycleEvent event = new PollCycleEvent();
+        event.begin();
+        int pendingJobs = 0;
+        int dispatchedJobs = 0;
+        dispatchLock.lock();
         try {
+            if (hedgePolicy.isEnabled()) {
+                hedgeStragglers();
+            }
+
             List<Job> pending = jobStorage.getPendingJobs();
+            pendingJobs = pending.size();
             if (pending.isEmpty()) {
                 log.debug("No pending jobs found");
                 return;
             }
 
             for (Job job : pending) {
-                try {
-                    Optional<String> workerUrl = workerRegistry.findAvailableWorker(job);
-                    if (workerUrl.isEmpty()) {
-                        log.debug("No available worker for jobId={}", job.getJobId());
-                        continue;
-                    }
+                if (dispatchOne(job)) {
+                    dispatchedJobs++;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Unexpected error in pollAndDispatch: {}", e.getMessage(), e);
+        } finally {
+            dispatchLock.unlock();
+            metrics.recordPoll(System.nanoTime() - startedAt);
+            event.end();
+            if (event.shouldCommit()) {
+                event.pendingJobs = pendingJobs;
+                event.dispatchedJobs = dispatchedJobs;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Dispatches jobs whose last parent just succeeded. Jobs that find no worker stay QUEUED and are
+     * picked up by the regular poll.
+     */
+    private void drainReadyJobs() {
+        drainScheduled.set(false);
+        dispatchLock.lock();
+        try {
+            Job job;
+            while ((job = readyQueue.poll()) != null) {
+                dispatchOne(job);
+            }
+        } catch (Exception e) {
+            log.error("Unexpected error dispatching ready jobs: {}", e.getMessage(), e);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
 
-                    boolean success = jobDispatcher.dispatch(job, workerUrl.get());
-                    if (success) {
-                        jobStorage.updateStatus(job.getJobId(), JobStatus.IN_PROGRESS);
-                        log.info("Dispatched jobId={} to worker={}", job.getJobId(), workerUrl.get());
-                    } else {
-                        handleRetry(job);
+    /**
+     * @return true if the job was handed to a worker; in VIRTUAL mode, if its dispatch was started
+     */
+    private boolean dispatchOne(Job job) {
+        if (!DISPATCHABLE.contains(job.getStatus())) {
+            return false; // already dispatched by a ready-queue drain or the poll
+        }
+        if (inFlight.containsKey(job.getJobId())) {
+            return false; // dispatch still running on a virtual thread, status not updated yet
+        }
+        try {
+            Optional<String> workerUrl = selectWorker(job, Set.of(), false);
+            if (workerUrl.isEmpty()) {
+                log.debug("No available worker for jobId={}", job.getJobId());
+                return false;
+            }
+            if (!asyncDispatch) {
+                // record the assignment before the call: a fast worker may report completion
+                // before dispatch() returns
+                return deliver(job, assign(job, workerUrl.get()));
+            }
+            if (!dispatchPermits.tryAcquire()) {
+                log.debug("{} dispatches in flight; jobId={} left for the next poll",
+                        props.getMaxConcurrentDispatches(), job.getJobId());
+                return false;
+            }
+            InFlightJob entry = assign(job, workerUrl.get());
+            try {
+                metrics.dispatchStarted();
+                executor.dispatch(() -> {
+                    try {
+                        deliver(job, entry);
+                    } finally {
+                        metrics.dispatchFinished();
+                        dispatchPermits.release();
                     }
-                } catch (Exception inner) {
-                    log.error("Error dispatching job {}: {}", job.getJobId(), inner.getMessage(), inner);
-                    handleRetry(job);
+                });
+                return true;
+            } catch (RejectedExecutionException e) {
+                metrics.dispatchFinished();
+                dispatchPermits.release();
+                release(job);
+                log.debug("Executor shutting down; jobId={} left for the next poll", job.getJobId());
+            }
+        } catch (Exception inner) {
+            log.error("Error dispatching job {}: {}", job.getJobId(), inner.getMessage(), inner);
+            handleRetry(job);
+            release(job);
+        }
+        return false;
+    }
+
+    /**
+     * Sends an assigned job to its worker and records the outcome. Blocks for the HTTP round trip:
+     * on the polling thread in PLATFORM mode, on the job's own virtual thread in VIRTUAL mode.
+     */
+    private boolean deliver(Job job, InFlightJob entry) {
+        String workerUrl = entry.workerUrl;
+        try {
+            long dispatchStart = System.nanoTime();
+            boolean success = jobDispatcher.dispatch(job, workerUrl);
+            metrics.recordDispatch(job, workerUrl, System.nanoTime() - dispatchStart, success);
+            if (success) {
+                entry.delivered = true;
+                // a fast worker may already have reported completion, which released the slot
+                if (!jobStorage.updateStatusIf(job.getJobId(), DISPATCHABLE, JobStatus.IN_PROGRESS)) {
+                    log.debug("jobId={} finished before its dispatch returned", job.getJobId());
                 }
+                log.info("Dispatched jobId={} to worker={}", job.getJobId(), workerUrl);
+                return true;
             }
         } catch (Exception e) {
-            log.error("Unexpected error in pollAndDispatch: {}", e.getMessage(), e);
+            log.error("Error dispatching job {}: {}", job.getJobId(), e.getMessage(), e);
         }
+        // status first: while the slot is held a concurrent poll skips the job, so it cannot be
+        // dispatched again before its retry is counted
+        handleRetry(job);
+        release(job);
+        return false;
+    }
+
+    private Optional<String> selectWorker(Job job, Set<String> excludedWorkerUrls, boolean hedge) {
+        WorkerSelectionEvent event = new WorkerSelectionEvent();
+        event.begin();
+        Optional<String> workerUrl = excludedWorkerUrls.isEmpty()
+                ? workerRegistry.findAvailableWorker(job)
+                : workerRegistry.findAvailableWorker(job, excludedWorkerUrls);
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobId = job.getJobId();
+            event.jobType = job.getType();
+            event.workerUrl = workerUrl.orElse(null);
+            event.queueWait = hedge ? 0 : clock.millis() - job.getUpdatedAt().toEpochMilli();
+            event.hedge = hedge;
+            event.commit();
+        }
+        return workerUrl;
     }
 
     /**
-     * Retry bookkeeping — increments retry count and persists status or fails permanently.
+     * Sends a duplicate of each straggling, hedge-eligible job to a different worker.
+     * Straggler thresholds are computed once per job type per poll cycle.
+     */
+    private void hedgeStragglers() {
+        long now = clock.millis();
+        Map<String, Long> thresholds = new HashMap<>();
+        for (InFlightJob entry : inFlight.values()) {
+            if (!hedgePolicy.withinBudget(hedgesInFlight.get(), inFlight.size())) {
+                log.debug("Hedge budget exhausted ({} hedges in flight)", hedgesInFlight.get());
+                return;
+            }
+            Job job = entry.job;
+            if (!entry.delivered || entry.hedgeUrl != null || !hedgePolicy.isEligible(job)) {
+                continue;
+            }
+            long threshold = thresholds.computeIfAbsent(job.getType(), hedgePolicy::stragglerThresholdMs);
+            if (threshold >= 0 && entry.elapsedMs(now) > threshold) {
+                hedge(entry, threshold);
+            }
+        }
+    }
+
+    private void hedge(InFlightJob entry, long thresholdMs) {
+        Job job = entry.job;
+        Optional<String> workerUrl = selectWorker(job, Set.of(entry.workerUrl), true);
+        if (workerUrl.isEmpty()) {
+            log.debug("No second worker available to hedge jobId={}", job.getJobId());
+            return;
+        }
+        if (asyncDispatch && !dispatchPermits.tryAcquire()) {
+            log.debug("Dispatch limit reached; not hedging jobId={}", job.getJobId());
+            return;
+        }
+        String hedgeUrl = workerUrl.get();
+        synchronized (entry) {
+            entry.hedgeUrl = hedgeUrl;
+        }
+        hedgesInFlight.incrementAndGet();
+        workerRegistry.onJobDispatched(job, hedgeUrl);
+        metrics.workerAssigned(hedgeUrl);
+
+        if (!asyncDispatch) {
+            sendHedge(entry, hedgeUrl, thresholdMs);
+            return;
+        }
+        try {
+            metrics.dispatchStarted();
+            executor.dispatch(() -> {
+                try {
+                    sendHedge(entry, hedgeUrl, thresholdMs);
+                } finally {
+                    metrics.dispatchFinished();
+                    dispatchPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.dispatchFinished();
+            dispatchPermits.release();
+            undoHedge(entry, hedgeUrl);
+        }
+    }
+
+    private void sendHedge(InFlightJob entry, String hedgeUrl, long thresholdMs) {
+        Job job = entry.job;
+        boolean success;
+        try {
+            success = jobDispatcher.dispatch(job, hedgeUrl);
+        } catch (Exception e) {
+            log.warn("Hedged dispatch of job {} failed: {}", job.getJobId(), e.getMessage());
+            success = false;
+        }
+        if (success) {
+            log.info("Hedged straggling jobId={} (threshold={}ms) to worker={}", job.getJobId(), thresholdMs, hedgeUrl);
+            return;
+        }
+        undoHedge(entry, hedgeUrl);
+    }
+
+    private void undoHedge(InFlightJob entry, String hedgeUrl) {
+        Job job = entry.job;
+        synchronized (entry) {
+            // undo only if the job has not already been released by a completion
+            if (entry.hedgeUrl != null && inFlight.get(job.getJobId()) == entry) {
+                entry.hedgeUrl = null;
+                hedgesInFlight.decrementAndGet();
+                workerRegistry.onJobReleased(job, hedgeUrl);
+                metrics.workerReleased(hedgeUrl);
+            }
+        }
+    }
+
+    private InFlightJob assign(Job job, String workerUrl) {
+        long now = clock.millis();
+        // measured here, not after dispatch(): the HTTP round trip is recorded as dispatch latency
+        metrics.recordQueueWait(job, now - job.getUpdatedAt().toEpochMilli());
+        InFlightJob entry = new InFlightJob(job, workerUrl, now);
+        inFlight.put(job.getJobId(), entry);
+        workerRegistry.onJobDispatched(job, workerUrl);
+        metrics.workerAssigned(workerUrl);
+        return entry;
+    }
+
+    private InFlightJob release(Job job) {
+        InFlightJob entry = inFlight.remove(job.getJobId());
+        if (entry == null) {
+            return null;
+        }
+        workerRegistry.onJobReleased(job, entry.workerUrl);
+        metrics.workerReleased(entry.workerUrl);
+        synchronized (entry) {
+            if (entry.hedgeUrl != null) {
+                hedgesInFlight.decrementAndGet();
+                workerRegistry.onJobReleased(job, entry.hedgeUrl);
+                metrics.workerReleased(entry.hedgeUrl);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Frees the worker slot once a dispatched job leaves IN_PROGRESS (completed, failed or requeued).
+     * For hedged jobs the first reported completion wins and both copies are cancelled; we cannot tell
+     * which worker reported, and the winner ignores a cancel for a job it already finished.
+     */
+    private void onStatusChange(Job job, JobStatus previous, JobStatus current) {
+        if (current == JobStatus.IN_PROGRESS) {
+            return;
+        }
+        if (previous == JobStatus.WAITING) {
+            if (current == JobStatus.QUEUED && running) {
+                readyQueue.add(job);
+                if (drainScheduled.compareAndSet(false, true)) {
+                    try {
+                        executor.execute(this::drainReadyJobs);
+                    } catch (RejectedExecutionException e) {
+                        drainScheduled.set(false);
+                        log.debug("Executor shutting down; jobId={} left for the next poll", job.getJobId());
+                    }
+                }
+            }
+            return;
+        }
+        InFlightJob entry = release(job);
+        if (entry == null) {
+            return;
+        }
+        if (current == JobStatus.SUCCESS) {
+            // hedged jobs are the slow tail; leaving them out would drag the straggler threshold down.
+            // Their run time counts from the original dispatch, which is what the caller waited.
+            hedgePolicy.recordSuccess(job, entry.elapsedMs(clock.millis()));
+        }
+        String hedgeUrl = entry.hedgeUrl;
+        if (hedgeUrl != null && (current == JobStatus.SUCCESS || current == JobStatus.FAILED)) {
+            jobDispatcher.cancel(job, entry.workerUrl);
+            jobDispatcher.cancel(job, hedgeUrl);
+        }
+    }
+
+    /**
+     * Retry bookkeeping — increments retry count and requeues the job or fails it permanently.
+     * Both go through a conditional transition, so a dispatch that fails after the worker already
+     * reported a result (a slow HTTP response, a hedged copy) leaves that result alone.
      */
     private void handleRetry(Job job) {
         int maxRetries = props.getMaxRetries();
         int current = job.getRetryCount();
-        if (current >= maxRetries) {
-            jobStorage.updateStatus(job.getJobId(), JobStatus.FAILED);
+        boolean gaveUp = current >= maxRetries;
+        if (gaveUp) {
+            if (!jobStorage.updateStatusIf(job.getJobId(), RETRYABLE, JobStatus.FAILED)) {
+                log.debug("jobId={} finished before its dispatch failed; not failing it", job.getJobId());
+                return;
+            }
+            metrics.recordFailure(job);
             log.warn("Job {} exceeded max retries ({}). Marking FAILED.", job.getJobId(), maxRetries);
         } else {
+            // counted before the job becomes RETRY, so a poll that picks it up right away sees the new count
             job.setRetryCount(current + 1);
-            job.setStatus(JobStatus.RETRY);
-            jobStorage.save(job); // save() should upsert
+            if (!jobStorage.updateStatusIf(job.getJobId(), RETRYABLE, JobStatus.RETRY)) {
+                job.setRetryCount(current);
+                log.debug("jobId={} finished before its dispatch failed; not retrying it", job.getJobId());
+                return;
+            }
+            metrics.recordRetry(job);
             log.info("Job {} scheduled for retry (attempt={} of {})", job.getJobId(), job.getRetryCount(), maxRetries);
         }
+        RetryDecisionEvent event = new RetryDecisionEvent();
+        if (event.shouldCommit()) {
+            event.jobId = job.getJobId();
+            event.jobType = job.getType();
+            event.retryCount = job.getRetryCount();
+            event.maxRetries = maxRetries;
+            event.gaveUp = gaveUp;
+            event.commit();
+        }
+    }
+
+    private static final class InFlightJob {
+        private final Job job;
+        private final String workerUrl;
+        private final long dispatchedAtMillis;
+        private volatile String hedgeUrl; // set while a speculative duplicate is running
+        private volatile boolean delivered; // the worker accepted the job; only then may it be hedged
+
+        private InFlightJob(Job job, String workerUrl, long dispatchedAtMillis) {
+            this.job = job;
+            this.workerUrl = workerUrl;
+            this.dispatchedAtMillis = dispatchedAtMillis;
+        }
+
+        private long elapsedMs(long nowMillis) {
+            return nowMillis - dispatchedAtMillis;
+        }
     }
-}
\ No newline at end of file
+}
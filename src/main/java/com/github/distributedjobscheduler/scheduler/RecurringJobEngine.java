@@ -0,0 +1,285 @@
+package com.github.distributedjobscheduler.scheduler;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.RecurringJobDefinition;
+import com.github.distributedjobscheduler.storage.JobStorage;
+import com.github.distributedjobscheduler.storage.RecurringJobStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Materializes recurring job definitions into regular jobs in {@link JobStorage}.
+ * <p>
+ * Each node keeps a min-heap of next fire times, so a tick only touches schedules that are due.
+ * Due fires are saved first and the schedule is advanced with
+ * {@link RecurringJobStorage#compareAndSetNextFireTime} afterwards, so a crash or error in between
+ * only means the fire is attempted again. Fired jobs get a deterministic id
+ * ({@code <definitionId>@<fireEpochMillis>}), so a repeated attempt, or a node racing for the same
+ * fire, finds the job already there and a fire is never submitted twice.
+ * A stored fire time counts as missed only when the fire after it is due as well, i.e. a whole
+ * period passed without any node materializing it, and it is more than the misfire threshold
+ * late. Such fires are handled by the definition's
+ * {@link com.github.distributedjobscheduler.model.MisfirePolicy}; a fire that is merely late
+ * because a tick ran late is materialized normally.
+ */
+public class RecurringJobEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringJobEngine.class);
+
+    private final RecurringJobStorage recurringJobStorage;
+    private final JobStorage jobStorage;
+    private final SchedulerTaskExecutor executor;
+    private final SchedulerProperties.Recurring props;
+    private final Clock clock;
+    private final boolean ownsExecutor;
+
+    // local view of next fire times; the storage is authoritative
+    private final PriorityQueue<FireEntry> heap = new PriorityQueue<>(Comparator.comparing(FireEntry::fireTime));
+
+    private ScheduledFuture<?> tickFuture;
+    private ScheduledFuture<?> resyncFuture;
+
+    public RecurringJobEngine(RecurringJobStorage recurringJobStorage,
+                              JobStorage jobStorage,
+                              SchedulerTaskExecutor executor,
+                              SchedulerProperties.Recurring props,
+                              Clock clock) {
+        this(recurringJobStorage, jobStorage, executor, props, clock, false);
+    }
+
+    /**
+     * Creates an engine with its own scheduling thread, so ticks are not queued behind the poll
+     * loop's blocking dispatches. {@link #shutdown()} releases the thread.
+     */
+    public RecurringJobEngine(RecurringJobStorage recurringJobStorage,
+                              JobStorage jobStorage,
+                              SchedulerProperties.Recurring props,
+                              Clock clock,
+                              String threadNamePrefix,
+                              long shutdownAwaitTerminationMs) {
+        this(recurringJobStorage, jobStorage, new SchedulerTaskExecutor(1, threadNamePrefix, shutdownAwaitTerminationMs),
+                props, clock, true);
+    }
+
+    private RecurringJobEngine(RecurringJobStorage recurringJobStorage,
+                               JobStorage jobStorage,
+                               SchedulerTaskExecutor executor,
+                               SchedulerProperties.Recurring props,
+                               Clock clock,
+                               boolean ownsExecutor) {
+        this.recurringJobStorage = recurringJobStorage;
+        this.jobStorage = jobStorage;
+        this.executor = executor;
+        this.props = props;
+        this.clock = clock;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Starts periodic ticking and heap resynchronization. Safe to call multiple times.
+     */
+    public synchronized void start() {
+        if (tickFuture != null && !tickFuture.isCancelled()) {
+            log.warn("RecurringJobEngine already started");
+            return;
+        }
+        resync();
+        log.info("Starting RecurringJobEngine (tickIntervalMs={}, schedules={})", props.getTickIntervalMs(), heap.size());
+        tickFuture = executor.scheduleAtFixedRate(this::tick, props.getTickIntervalMs(), props.getTickIntervalMs());
+        resyncFuture = executor.scheduleAtFixedRate(this::resync, props.getResyncIntervalMs(), props.getResyncIntervalMs());
+    }
+
+    public synchronized void stop() {
+        if (tickFuture != null) {
+            tickFuture.cancel(false);
+            resyncFuture.cancel(false);
+            tickFuture = null;
+            resyncFuture = null;
+            log.info("RecurringJobEngine stopped");
+        }
+    }
+
+    /**
+     * Stops ticking and, if the engine created its own scheduling thread, shuts it down.
+     */
+    public void shutdown() {
+        stop();
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Registers (or replaces) a definition; its first fire is the first schedule time after now.
+     */
+    public synchronized void register(RecurringJobDefinition definition) {
+        Instant first = definition.nextFireAfter(clock.instant());
+        recurringJobStorage.save(definition, first);
+        // a replaced definition's old entry would otherwise stay in the heap until the next resync
+        heap.removeIf(entry -> entry.definitionId().equals(definition.getId()));
+        if (first != null) {
+            heap.add(new FireEntry(first, definition.getId()));
+        }
+        log.info("Registered recurring job {} (first fire at {})", definition, first);
+    }
+
+    /**
+     * Removes a definition. Its heap entry is dropped lazily when it comes due.
+     */
+    public void unregister(String definitionId) {
+        recurringJobStorage.delete(definitionId);
+        log.info("Unregistered recurring job {}", definitionId);
+    }
+
+    /**
+     * Rebuilds the heap from storage. Kept public for easier unit testing.
+     */
+    public synchronized void resync() {
+        try {
+            heap.clear();
+            for (RecurringJobDefinition definition : recurringJobStorage.findAll()) {
+                Instant next = recurringJobStorage.getNextFireTime(definition.getId());
+                if (next != null) {
+                    heap.add(new FireEntry(next, definition.getId()));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to resync recurring jobs: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Materializes every due fire. Kept public for easier unit testing.
+     */
+    public synchronized void tick() {
+        Instant now = clock.instant();
+        List<FireEntry> failed = new ArrayList<>();
+        while (!heap.isEmpty() && !heap.peek().fireTime().isAfter(now)) {
+            FireEntry entry = heap.poll();
+            try {
+                fire(entry, now);
+            } catch (Exception e) {
+                log.error("Error firing recurring job {}: {}", entry.definitionId(), e.getMessage(), e);
+                failed.add(entry); // the schedule was not advanced; try again on the next tick
+            }
+        }
+        heap.addAll(failed);
+    }
+
+    private void fire(FireEntry entry, Instant now) {
+        RecurringJobDefinition definition = recurringJobStorage.findById(entry.definitionId());
+        if (definition == null) {
+            return; // unregistered
+        }
+        Instant scheduled = recurringJobStorage.getNextFireTime(entry.definitionId());
+        if (scheduled == null) {
+            return; // finished
+        }
+        if (!scheduled.equals(entry.fireTime())) {
+            // another node already advanced this schedule; follow the stored value
+            heap.add(new FireEntry(scheduled, entry.definitionId()));
+            return;
+        }
+
+        List<Instant> fires = new ArrayList<>();
+        Instant next = planFires(definition, scheduled, now, fires);
+        for (Instant fireTime : fires) {
+            materialize(definition, fireTime);
+        }
+        if (!recurringJobStorage.compareAndSetNextFireTime(definition.getId(), scheduled, next)) {
+            // another node advanced it first; it saved the same job ids, so nothing was duplicated
+            Instant current = recurringJobStorage.getNextFireTime(definition.getId());
+            if (current != null) {
+                heap.add(new FireEntry(current, definition.getId()));
+            }
+            return;
+        }
+        if (next != null) {
+            heap.add(new FireEntry(next, definition.getId()));
+        }
+    }
+
+    /**
+     * Collects the fire times to materialize for a schedule due at {@code scheduled} and returns the
+     * following fire time ({@code null} if the schedule is finished).
+     */
+    private Instant planFires(RecurringJobDefinition definition, Instant scheduled, Instant now, List<Instant> fires) {
+        // lateness alone means a slow tick; the schedule was missed only if its next fire is due too
+        Instant following = definition.nextFireAfter(scheduled);
+        boolean misfired = following != null && !following.isAfter(now)
+                && Duration.between(scheduled, now).toMillis() > props.getMisfireThresholdMs();
+        if (!misfired) {
+            fires.add(scheduled);
+            return definition.nextFireAfter(scheduled);
+        }
+
+        switch (definition.getMisfirePolicy()) {
+            case SKIP:
+                log.info("Recurring job {} missed fire at {}; skipping", definition.getId(), scheduled);
+                return firstFireAfter(definition, scheduled, now);
+            case CATCH_UP:
+                Instant t = scheduled;
+                while (t != null && !t.isAfter(now) && fires.size() < props.getMaxCatchUp()) {
+                    fires.add(t);
+                    t = definition.nextFireAfter(t);
+                }
+                if (t != null && !t.isAfter(now)) {
+                    log.warn("Recurring job {} missed more than {} fires; dropping the rest", definition.getId(), props.getMaxCatchUp());
+                    return firstFireAfter(definition, scheduled, now);
+                }
+                return t;
+            case FIRE_ONCE:
+            default:
+                fires.add(scheduled);
+                return firstFireAfter(definition, scheduled, now);
+        }
+    }
+
+    // first fire strictly after now, keeping the fixed-rate phase anchored at the original schedule
+    private static Instant firstFireAfter(RecurringJobDefinition definition, Instant scheduled, Instant now) {
+        if (definition.getFixedRate() == null) {
+            return definition.nextFireAfter(now);
+        }
+        long rateMs = definition.getFixedRate().toMillis();
+        long periods = Duration.between(scheduled, now).toMillis() / rateMs + 1;
+        return scheduled.plusMillis(periods * rateMs);
+    }
+
+    private void materialize(RecurringJobDefinition definition, Instant fireTime) {
+        Job job = definition.toJob(fireTime);
+        if (jobStorage.findById(job.getJobId()) != null) {
+            log.debug("Recurring fire {} already materialized", job.getJobId());
+            return;
+        }
+        jobStorage.save(job);
+        log.info("Materialized recurring job {} for fire time {}", job.getJobId(), fireTime);
+    }
+
+    private static final class FireEntry {
+        private final Instant fireTime;
+        private final String definitionId;
+
+        private FireEntry(Instant fireTime, String definitionId) {
+            this.fireTime = fireTime;
+            this.definitionId = definitionId;
+        }
+
+        private Instant fireTime() {
+            return fireTime;
+        }
+
+        private String definitionId() {
+            return definitionId;
+        }
+    }
+}
@@ -1,21 +1,25 @@
 package com.github.distributedjobscheduler.scheduler;
 
+import com.github.distributedjobscheduler.config.SchedulerProperties;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
-@Component
 public class SchedulerTaskExecutor {
 
     private final ScheduledExecutorService executorService;
 
+    // one virtual thread per dispatch in VIRTUAL mode; null when dispatches run inline
+    private final ExecutorService dispatchExecutor;
+
     private static final Logger log = LoggerFactory.getLogger(SchedulerTaskExecutor.class);
 
     // configured via SchedulerProperties
@@ -23,7 +27,26 @@ public class SchedulerTaskExecutor {
 
     private final String threadNamePrefix;
 
+    /**
+     * Runs tasks on a caller-supplied executor, e.g. the virtual-time executor of the simulator.
+     */
+    public SchedulerTaskExecutor(ScheduledExecutorService executorService, long shutdownAwaitTerminationMs) {
+        this.executorService = executorService;
+        this.dispatchExecutor = null;
+        this.shutdownAwaitTerminationMs = shutdownAwaitTerminationMs;
+        this.threadNamePrefix = null;
+    }
+
     public SchedulerTaskExecutor(int threadPoolSize, String threadNamePrefix, long shutdownAwaitTerminationMs) {
+        this(threadPoolSize, threadNamePrefix, shutdownAwaitTerminationMs, SchedulerProperties.ExecutionMode.PLATFORM);
+    }
+
+    /**
+     * @param executionMode VIRTUAL additionally creates a virtual-thread-per-task executor for dispatches;
+     *                      on runtimes without virtual threads it logs a warning and behaves like PLATFORM
+     */
+    public SchedulerTaskExecutor(int threadPoolSize, String threadNamePrefix, long shutdownAwaitTerminationMs,
+                                 SchedulerProperties.ExecutionMode executionMode) {
         this.shutdownAwaitTerminationMs = shutdownAwaitTerminationMs;
         this.threadNamePrefix = threadNamePrefix;
 
@@ -42,6 +65,16 @@ public class SchedulerTaskExecutor {
                 return t;
             });
         }
+
+        if (executionMode == SchedulerProperties.ExecutionMode.VIRTUAL) {
+            this.dispatchExecutor = VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix + "dispatch-").orElse(null);
+            if (dispatchExecutor == null) {
+                log.warn("Virtual threads need Java 21+ (running {}); dispatching on platform threads",
+                        Runtime.version());
+            }
+        } else {
+            this.dispatchExecutor = null;
+        }
     }
 
 
@@ -57,24 +90,63 @@ public class SchedulerTaskExecutor {
         return executorService.scheduleAtFixedRate(task, initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Runs a one-off task on the scheduler threads as soon as one is free.
+     */
+    public void execute(Runnable task) {
+        executorService.execute(task);
+    }
+
+    /**
+     * Whether {@link #dispatch} runs tasks on their own virtual thread. When false, callers dispatch inline.
+     */
+    public boolean isAsyncDispatch() {
+        return dispatchExecutor != null;
+    }
+
+    /**
+     * Starts a blocking dispatch call on a new virtual thread.
+     *
+     * @throws IllegalStateException      if the executor was not created in VIRTUAL mode
+     * @throws RejectedExecutionException if the executor is shutting down
+     */
+    public void dispatch(Runnable task) {
+        if (dispatchExecutor == null) {
+            throw new IllegalStateException("Asynchronous dispatch is not enabled");
+        }
+        dispatchExecutor.execute(task);
+    }
+
+    /**
+     * Stops the scheduler threads first, so no new dispatches are started, then lets in-flight
+     * dispatches finish. Both share one {@code shutdownAwaitTerminationMs} budget.
+     */
     @PreDestroy
     public void shutdown() {
         log.info("Shutting down SchedulerTaskExecutor...");
-        executorService.shutdown();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownAwaitTerminationMs);
+        awaitTermination(executorService, "SchedulerTaskExecutor", deadline);
+        if (dispatchExecutor != null) {
+            awaitTermination(dispatchExecutor, "SchedulerTaskExecutor dispatch executor", deadline);
+        }
+        log.info("SchedulerTaskExecutor shutdown complete.");
+    }
+
+    private static void awaitTermination(ExecutorService executor, String name, long deadlineNanos) {
+        executor.shutdown();
         try {
-            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                log.warn("SchedulerTaskExecutor did not terminate in time; invoking shutdownNow()");
-                executorService.shutdownNow();
-                if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
-                    log.error("SchedulerTaskExecutor did not terminate after shutdownNow()");
+            if (!executor.awaitTermination(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warn("{} did not terminate in time; invoking shutdownNow()", name);
+                executor.shutdownNow();
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.error("{} did not terminate after shutdownNow()", name);
                 }
             }
         } catch (InterruptedException e) {
-            log.warn("Interrupted while shutting down SchedulerTaskExecutor; invoking shutdownNow()", e);
-            executorService.shutdownNow();
+            log.warn("Interrupted while shutting down {}; invoking shutdownNow()", name, e);
+            executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
-        log.info("SchedulerTaskExecutor shutdown complete.");
     }
 
     private static final class UUIDThreadSuffix {
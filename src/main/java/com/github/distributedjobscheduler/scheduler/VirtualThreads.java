@@ -0,0 +1,34 @@
+package com.github.distributedjobscheduler.scheduler;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reflective access to the JDK 21 virtual-thread API, so the starter compiles and runs on Java 17.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * An executor that starts a new virtual thread per task, named {@code namePrefix0, namePrefix1, ...},
+     * or empty when the runtime has no (non-preview) virtual threads.
+     */
+    static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of((ExecutorService) newExecutor.invoke(null, factory));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // NoSuchMethod before JDK 19; InvocationTarget(UnsupportedOperation) on 19/20 without --enable-preview
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.distributedjobscheduler.scheduler.hedging;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.model.Job;
+
+import java.util.Set;
+
+/**
+ * Decides when an in-flight job is straggling badly enough to send a speculative duplicate
+ * to another worker. Only idempotent jobs of opted-in types are hedged, only once a type has
+ * enough runtime samples, and only while hedges stay under a fraction of in-flight work.
+ */
+public class HedgePolicy {
+
+    private final boolean enabled;
+    private final Set<String> types;
+    private final double percentile;
+    private final int minSamples;
+    private final double maxHedgeFraction;
+    private final RuntimeStatistics statistics;
+
+    public HedgePolicy(SchedulerProperties.Hedging config) {
+        this.enabled = config.isEnabled();
+        this.types = Set.copyOf(config.getTypes());
+        this.percentile = config.getPercentile();
+        this.minSamples = config.getMinSamples();
+        this.maxHedgeFraction = config.getMaxHedgeFraction();
+        this.statistics = new RuntimeStatistics(config.getHistorySize());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isEligible(Job job) {
+        return enabled && job.isIdempotent() && types.contains(job.getType());
+    }
+
+    /**
+     * Run time (ms) after which a job of this type counts as a straggler, or -1 if there is not
+     * enough history yet.
+     */
+    public long stragglerThresholdMs(String type) {
+        if (statistics.sampleCount(type) < minSamples) {
+            return -1;
+        }
+        return statistics.percentile(type, percentile);
+    }
+
+    /**
+     * Whether one more hedge fits in the budget. Rounds down, so with fewer than
+     * {@code 1 / maxHedgeFraction} jobs in flight nothing is hedged.
+     */
+    public boolean withinBudget(int hedgesInFlight, int totalInFlight) {
+        return hedgesInFlight < (long) Math.floor(maxHedgeFraction * totalInFlight);
+    }
+
+    public void recordSuccess(Job job, long runtimeMs) {
+        if (enabled && types.contains(job.getType())) {
+            statistics.record(job.getType(), runtimeMs);
+        }
+    }
+}
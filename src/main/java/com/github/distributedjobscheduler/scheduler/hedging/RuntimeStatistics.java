@@ -0,0 +1,68 @@
+package com.github.distributedjobscheduler.scheduler.hedging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding window of recent successful run times per job type.
+ * Each type keeps the last {@code windowSize} samples in a ring buffer.
+ */
+public class RuntimeStatistics {
+
+    private final int windowSize;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RuntimeStatistics(int windowSize) {
+        this.windowSize = Math.max(1, windowSize);
+    }
+
+    public void record(String type, long runtimeMs) {
+        windows.computeIfAbsent(type, t -> new Window(windowSize)).add(runtimeMs);
+    }
+
+    public int sampleCount(String type) {
+        Window window = windows.get(type);
+        return window == null ? 0 : window.count();
+    }
+
+    /**
+     * Returns the given percentile (0 < p <= 1) of the recorded run times, or -1 if there are no samples.
+     */
+    public long percentile(String type, double p) {
+        Window window = windows.get(type);
+        return window == null ? -1 : window.percentile(p);
+    }
+
+    private static final class Window {
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        Window(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void add(long value) {
+            samples[next] = value;
+            next = (next + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized long percentile(double p) {
+            if (count == 0) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(p * count) - 1;
+            return sorted[Math.min(count - 1, Math.max(0, index))];
+        }
+    }
+}
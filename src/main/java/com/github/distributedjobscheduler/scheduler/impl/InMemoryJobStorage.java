@@ -2,28 +2,137 @@ package com.github.distributedjobscheduler.scheduler.impl;
 
 import com.github.distributedjobscheduler.model.Job;
 import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.storage.JobStatusListener;
 import com.github.distributedjobscheduler.storage.JobStorage;
+import com.github.distributedjobscheduler.storage.dag.DependencyTracker;
+import com.github.distributedjobscheduler.storage.dedup.IdempotencyIndex;
+import lombok.extern.slf4j.Slf4j;
 
-import java.time.Instant;
+import java.time.Clock;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+@Slf4j
 public class InMemoryJobStorage implements JobStorage {
     private final Map<String, Job> jobMap = new ConcurrentHashMap<>();
+    private final List<JobStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+    private final DependencyTracker dependencyTracker = new DependencyTracker();
+
+    // null disables idempotency-key deduplication
+    private final IdempotencyIndex idempotencyIndex;
+
+    // source of updatedAt timestamps; a virtual clock under simulation
+    private final Clock clock;
+
+    public InMemoryJobStorage() {
+        this(null);
+    }
+
+    public InMemoryJobStorage(IdempotencyIndex idempotencyIndex) {
+        this(idempotencyIndex, Clock.systemUTC());
+    }
+
+    public InMemoryJobStorage(IdempotencyIndex idempotencyIndex, Clock clock) {
+        this.idempotencyIndex = idempotencyIndex;
+        this.clock = clock;
+    }
 
     @Override
     public void save(Job job) {
-        jobMap.put(job.getJobId(), job);
+        submit(job);
     }
 
+    @Override
+    public boolean submit(Job job) {
+        if (isDuplicate(job)) {
+            return false;
+        }
+        boolean isNew = !jobMap.containsKey(job.getJobId());
+        if (!isNew || job.getParentJobIds().isEmpty() || job.getStatus() != JobStatus.QUEUED) {
+            jobMap.put(job.getJobId(), job);
+            return true;
+        }
+        // the child enters jobMap only with its final initial status, and under the tracker's lock,
+        // so a poll never sees it QUEUED early and a parent finishing concurrently can find it
+        JobStatus initial = dependencyTracker.register(job, this::statusOf, child -> jobMap.put(child.getJobId(), child));
+        if (initial != JobStatus.WAITING) {
+            log.debug("Job {} submitted with parents already finished; status={}", job.getJobId(), initial);
+        }
+        return true;
+    }
+
+    /**
+     * Applies the status change and, when a job finishes, releases or fails its dependent jobs.
+     * Children that become ready move WAITING -> QUEUED and listeners are told immediately, so the
+     * scheduler can dispatch them without waiting for the next poll. Processed iteratively so long
+     * dependency chains do not recurse.
+     * <p>
+     * SUCCESS and FAILED are final: the first one reported wins and later updates (a hedged copy
+     * reporting too, a late IN_PROGRESS) are ignored without notifying listeners.
+     */
     @Override
     public void updateStatus(String jobId, JobStatus status) {
-        Job job = jobMap.get(jobId);
-        if (job != null) {
-            job.setStatus(status);
-            job.setUpdatedAt(Instant.now());
+        apply(jobId, null, status);
+    }
+
+    @Override
+    public boolean updateStatusIf(String jobId, Set<JobStatus> expected, JobStatus status) {
+        return apply(jobId, expected, status);
+    }
+
+    /**
+     * @param expected statuses the job must be in for the first transition to apply; null for any
+     *                 non-terminal status. Cascaded transitions of dependent jobs are unconditional.
+     * @return whether the first transition applied
+     */
+    private boolean apply(String jobId, Set<JobStatus> expected, JobStatus status) {
+        boolean applied = false;
+        boolean requested = true; // the first work item is the caller's job; the rest are cascaded
+        Deque<Map.Entry<String, JobStatus>> work = new ArrayDeque<>();
+        work.add(new AbstractMap.SimpleImmutableEntry<>(jobId, status));
+        while (!work.isEmpty()) {
+            Map.Entry<String, JobStatus> next = work.poll();
+            boolean isRequested = requested;
+            requested = false;
+            Job job = jobMap.get(next.getKey());
+            if (job == null) {
+                continue;
+            }
+            JobStatus current = next.getValue();
+            JobStatus previous;
+            synchronized (job) {
+                previous = job.getStatus();
+                if (isRequested && expected != null && !expected.contains(previous)) {
+                    continue;
+                }
+                if (isTerminal(previous)) {
+                    if (previous != current) {
+                        log.debug("Ignoring {} for job {}: already {}", current, job.getJobId(), previous);
+                    }
+                    continue;
+                }
+                job.setStatus(current);
+                job.setUpdatedAt(clock.instant());
+            }
+            applied |= isRequested;
+            if (previous == current) {
+                continue;
+            }
+            for (JobStatusListener listener : statusListeners) {
+                listener.onStatusChange(job, previous, current);
+            }
+            if (isTerminal(current)) {
+                dependencyTracker.onFinished(job.getJobId(), current)
+                        .forEach((childId, childStatus) -> work.add(new AbstractMap.SimpleImmutableEntry<>(childId, childStatus)));
+            }
         }
+        return applied;
     }
 
     @Override
@@ -42,4 +151,35 @@ public class InMemoryJobStorage implements JobStorage {
                 .filter(job -> job.getStatus() == JobStatus.QUEUED || job.getStatus() == JobStatus.RETRY)
                 .toList();
     }
+
+    @Override
+    public void addStatusListener(JobStatusListener listener) {
+        statusListeners.add(listener);
+    }
+
+    private static boolean isTerminal(JobStatus status) {
+        return status == JobStatus.SUCCESS || status == JobStatus.FAILED;
+    }
+
+    private JobStatus statusOf(String jobId) {
+        Job job = jobMap.get(jobId);
+        return job == null ? null : job.getStatus();
+    }
+
+    /**
+     * A new job is a duplicate if another job claimed its idempotency key inside the window.
+     * Saving an existing job (upsert, e.g. on retry) never counts as a duplicate.
+     */
+    private boolean isDuplicate(Job job) {
+        String key = job.getIdempotencyKey();
+        if (key == null || idempotencyIndex == null || jobMap.containsKey(job.getJobId())) {
+            return false;
+        }
+        String holder = idempotencyIndex.putIfAbsent(key, job.getJobId());
+        if (holder != null && !holder.equals(job.getJobId())) {
+            log.debug("Dropping job {}: idempotency key {} already used by job {}", job.getJobId(), key, holder);
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,60 @@
+package com.github.distributedjobscheduler.scheduler.impl;
+
+import com.github.distributedjobscheduler.model.RecurringJobDefinition;
+import com.github.distributedjobscheduler.storage.RecurringJobStorage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRecurringJobStorage implements RecurringJobStorage {
+
+    private final Map<String, RecurringJobDefinition> definitions = new ConcurrentHashMap<>();
+    private final Map<String, Instant> nextFireTimes = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(RecurringJobDefinition definition, Instant nextFireTime) {
+        definitions.put(definition.getId(), definition);
+        if (nextFireTime != null) {
+            nextFireTimes.put(definition.getId(), nextFireTime);
+        } else {
+            nextFireTimes.remove(definition.getId());
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        definitions.remove(id);
+        nextFireTimes.remove(id);
+    }
+
+    @Override
+    public RecurringJobDefinition findById(String id) {
+        return definitions.get(id);
+    }
+
+    @Override
+    public List<RecurringJobDefinition> findAll() {
+        return List.copyOf(definitions.values());
+    }
+
+    @Override
+    public Instant getNextFireTime(String id) {
+        return nextFireTimes.get(id);
+    }
+
+    @Override
+    public boolean compareAndSetNextFireTime(String id, Instant expected, Instant next) {
+        boolean[] won = new boolean[1];
+        nextFireTimes.computeIfPresent(id, (key, current) -> {
+            if (!Objects.equals(current, expected)) {
+                return current;
+            }
+            won[0] = true;
+            return next; // null removes the entry: schedule finished
+        });
+        return won[0];
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.distributedjobscheduler.simulation;
+
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Single-threaded discrete-event loop over a {@link VirtualClock}.
+ * <p>
+ * Events run in time order; events due at the same millisecond run in the order they were
+ * scheduled, which keeps a run fully deterministic.
+ */
+public class EventLoop {
+
+    private final VirtualClock clock;
+    private final PriorityQueue<Event> queue = new PriorityQueue<>();
+    private long sequence;
+    private long processed;
+
+    public EventLoop(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    public VirtualClock getClock() {
+        return clock;
+    }
+
+    public Event schedule(long epochMillis, Runnable task) {
+        Event event = new Event(Math.max(epochMillis, clock.millis()), sequence++, task);
+        queue.add(event);
+        return event;
+    }
+
+    public Event scheduleAfter(long delayMillis, Runnable task) {
+        return schedule(clock.millis() + Math.max(0, delayMillis), task);
+    }
+
+    /**
+     * Runs events until {@code stop} returns true (checked after every event), the queue is empty,
+     * or the next event is later than {@code endMillis}.
+     */
+    public void runUntil(long endMillis, BooleanSupplier stop) {
+        while (!queue.isEmpty() && !stop.getAsBoolean()) {
+            Event next = queue.peek();
+            if (next.time > endMillis) {
+                clock.advanceTo(endMillis);
+                return;
+            }
+            queue.poll();
+            if (next.cancelled) {
+                continue;
+            }
+            clock.advanceTo(next.time);
+            processed++;
+            next.task.run();
+        }
+    }
+
+    public long getProcessedEvents() {
+        return processed;
+    }
+
+    public static final class Event implements Comparable<Event> {
+        private final long time;
+        private final long sequence;
+        private final Runnable task;
+        private boolean cancelled;
+
+        private Event(long time, long sequence, Runnable task) {
+            this.time = time;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.distributedjobscheduler.simulation;
+
+import java.util.Random;
+
+/**
+ * Service-time distribution of a simulated or stub worker, parsed from specs such as
+ * {@code fixed:10}, {@code uniform:5,50}, {@code exponential:20} or {@code lognormal:20,0.5}
+ * (all values in milliseconds; lognormal takes the median and sigma).
+ */
+public final class ServiceTimeDistribution {
+
+    private enum Kind { FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL }
+
+    private final Kind kind;
+    private final double a;
+    private final double b;
+    private final String spec;
+
+    private ServiceTimeDistribution(Kind kind, double a, double b, String spec) {
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+        this.spec = spec;
+    }
+
+    public static ServiceTimeDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":", 2);
+        Kind kind = Kind.valueOf(parts[0].trim().toUpperCase());
+        String[] args = parts.length > 1 ? parts[1].split(",") : new String[0];
+        double a = args.length > 0 ? Double.parseDouble(args[0].trim()) : 0;
+        double b = args.length > 1 ? Double.parseDouble(args[1].trim()) : 0;
+        if (kind == Kind.UNIFORM && b < a) {
+            throw new IllegalArgumentException("uniform needs min,max: " + spec);
+        }
+        return new ServiceTimeDistribution(kind, a, b, spec);
+    }
+
+    /**
+     * Next service time in milliseconds.
+     */
+    public long sampleMillis(Random random) {
+        double value;
+        switch (kind) {
+            case UNIFORM -> value = a + random.nextDouble() * (b - a);
+            case EXPONENTIAL -> value = -a * Math.log(1 - random.nextDouble());
+            case LOGNORMAL -> value = a * Math.exp(b * random.nextGaussian());
+            default -> value = a;
+        }
+        return Math.max(0, Math.round(value));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.distributedjobscheduler.simulation;
+
+import com.github.distributedjobscheduler.dispatcher.JobDispatcher;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.storage.JobStorage;
+import io.github.resilience4j.retry.Retry;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+/**
+ * Delivers jobs to {@link SimulatedWorker}s instead of over HTTP. Completions are reported
+ * through {@link JobStorage#updateStatus}, as a worker calling back into the application would.
+ */
+public class SimulatedDispatcher extends JobDispatcher {
+
+    private final Map<String, SimulatedWorker> workersByUrl;
+    private final EventLoop loop;
+    private final JobStorage jobStorage;
+
+    public SimulatedDispatcher(Map<String, SimulatedWorker> workersByUrl, EventLoop loop, JobStorage jobStorage) {
+        super(WebClient.builder(), Retry.ofDefaults("simulation"));
+        this.workersByUrl = workersByUrl;
+        this.loop = loop;
+        this.jobStorage = jobStorage;
+    }
+
+    @Override
+    public boolean dispatch(Job job, String workerUrl) {
+        SimulatedWorker worker = workersByUrl.get(workerUrl);
+        return worker != null && worker.accept(job, loop,
+                (jobId, success) -> jobStorage.updateStatus(jobId, success ? JobStatus.SUCCESS : JobStatus.FAILED));
+    }
+
+    @Override
+    public void cancel(Job job, String workerUrl) {
+        SimulatedWorker worker = workersByUrl.get(workerUrl);
+        if (worker != null) {
+            worker.cancel(job.getJobId());
+        }
+    }
+}
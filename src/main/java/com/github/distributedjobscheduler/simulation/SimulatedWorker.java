@@ -0,0 +1,134 @@
+package com.github.distributedjobscheduler.simulation;
+
+import com.github.distributedjobscheduler.model.Job;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Worker model for the simulator: bounded concurrency, sampled service times, injected delivery
+ * errors and job failures, and crashes that drop every running job.
+ */
+public class SimulatedWorker {
+
+    @FunctionalInterface
+    public interface CompletionCallback {
+        void completed(String jobId, boolean success);
+    }
+
+    private final String workerId;
+    private final String url;
+    private final List<String> capabilities;
+    private final SimulationConfig.WorkerGroup group;
+    private final ServiceTimeDistribution serviceTime;
+    private final Random random;
+
+    // running jobs and their completion events, in acceptance order
+    private final Map<String, EventLoop.Event> running = new LinkedHashMap<>();
+    private boolean up = true;
+    private long accepted;
+    private long refused;
+    private long dropped;
+
+    public SimulatedWorker(String workerId, SimulationConfig.WorkerGroup group, long seed) {
+        this.workerId = workerId;
+        this.url = "sim://" + workerId;
+        this.capabilities = group.getCapabilities();
+        this.group = group;
+        this.serviceTime = ServiceTimeDistribution.parse(group.getServiceTime());
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Delivery attempt. Returns false when the worker is down, full, or an error is injected,
+     * which the scheduler sees as a failed dispatch.
+     */
+    public boolean accept(Job job, EventLoop loop, CompletionCallback callback) {
+        if (!up || running.size() >= group.getCapacity() || random.nextDouble() < group.getDispatchErrorRate()) {
+            refused++;
+            return false;
+        }
+        accepted++;
+        String jobId = job.getJobId();
+        boolean success = random.nextDouble() >= group.getFailureRate();
+        running.put(jobId, loop.scheduleAfter(serviceTime.sampleMillis(random), () -> {
+            running.remove(jobId);
+            callback.completed(jobId, success);
+        }));
+        return true;
+    }
+
+    public void cancel(String jobId) {
+        EventLoop.Event completion = running.remove(jobId);
+        if (completion != null) {
+            completion.cancel();
+        }
+    }
+
+    /**
+     * Stops the worker; running jobs are lost and never reported.
+     *
+     * @return ids of the dropped jobs
+     */
+    public List<String> crash() {
+        up = false;
+        List<String> lost = List.copyOf(running.keySet());
+        running.values().forEach(EventLoop.Event::cancel);
+        running.clear();
+        dropped += lost.size();
+        return lost;
+    }
+
+    public void recover() {
+        up = true;
+    }
+
+    /**
+     * Whether the heartbeat due now reaches the registry.
+     */
+    public boolean heartbeatDelivered() {
+        return up && random.nextDouble() >= group.getHeartbeatLossRate();
+    }
+
+    /**
+     * Sampled time until the next crash (exponential), or -1 if crashes are disabled.
+     */
+    public long nextCrashDelayMs() {
+        long mean = group.getMeanTimeBetweenCrashesMs();
+        return mean <= 0 ? -1 : Math.max(1, Math.round(-mean * Math.log(1 - random.nextDouble())));
+    }
+
+    public long recoveryDelayMs() {
+        return Math.max(1, Math.round(-group.getMeanTimeToRecoverMs() * Math.log(1 - random.nextDouble())));
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public List<String> getCapabilities() {
+        return capabilities;
+    }
+
+    public int getCapacity() {
+        return group.getCapacity();
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getRefused() {
+        return refused;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+}
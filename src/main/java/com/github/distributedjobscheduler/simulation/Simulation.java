@@ -0,0 +1,207 @@
+package com.github.distributedjobscheduler.simulation;
+
+import com.github.distributedjobscheduler.metrics.SchedulerMetrics;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.model.ResourceVector;
+import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
+import com.github.distributedjobscheduler.scheduler.JobScheduler;
+import com.github.distributedjobscheduler.scheduler.SchedulerTaskExecutor;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic discrete-event simulation of a scheduler cluster.
+ * <p>
+ * The real {@link JobScheduler}, {@link InMemoryWorkerRegistry} and {@link InMemoryJobStorage}
+ * run on a {@link VirtualClock}; the scheduler's poll loop is driven by a
+ * {@link VirtualTimeExecutor}, and dispatches go to {@link SimulatedWorker}s. Job arrivals,
+ * heartbeats, stale detection, completions and worker crashes are events, so hours of cluster
+ * behaviour replay in seconds and a seed fully determines the result.
+ *
+ * <pre>
+ * SimulationConfig config = new SimulationConfig();
+ * config.getScheduler().setPollIntervalMs(500);
+ * SimulationReport report = new Simulation(config).run();
+ * </pre>
+ */
+public class Simulation {
+
+    private final SimulationConfig config;
+
+    private final Set<String> outstanding = new HashSet<>();
+    private final Set<String> lostOutstanding = new HashSet<>();
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+    private long succeeded;
+    private long failed;
+    private long retries;
+    private long crashes;
+
+    public Simulation(SimulationConfig config) {
+        this.config = config;
+    }
+
+    public SimulationReport run() {
+        long wallStart = System.currentTimeMillis();
+        VirtualClock clock = new VirtualClock(config.getStart());
+        EventLoop loop = new EventLoop(clock);
+        SchedulerTaskExecutor executor = new SchedulerTaskExecutor(new VirtualTimeExecutor(loop), 0L);
+
+        InMemoryJobStorage storage = new InMemoryJobStorage(null, clock);
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(
+                config.getAffinityVirtualNodes(), config.getAffinityLoadFactor(), config.getPlacement(), clock);
+        Map<String, SimulatedWorker> workersByUrl = new LinkedHashMap<>();
+        JobScheduler scheduler = new JobScheduler(storage, registry,
+                new SimulatedDispatcher(workersByUrl, loop, storage), executor, config.getScheduler(),
+                SchedulerMetrics.NOOP, clock);
+        storage.addStatusListener((job, previous, current) -> onStatusChange(job, current, clock.millis()));
+
+        startWorkers(loop, registry, workersByUrl);
+        long startMillis = clock.millis();
+        long arrivalsEnd = startMillis + config.getDuration().toMillis();
+        scheduleArrivals(loop, storage, arrivalsEnd);
+
+        scheduler.start();
+        loop.runUntil(arrivalsEnd + config.getDrainTimeout().toMillis(),
+                () -> clock.millis() >= arrivalsEnd && outstanding.size() == lostOutstanding.size());
+        scheduler.stop();
+        executor.shutdown();
+
+        return report(clock.millis() - startMillis, loop.getProcessedEvents(), System.currentTimeMillis() - wallStart);
+    }
+
+    private void startWorkers(EventLoop loop, InMemoryWorkerRegistry registry, Map<String, SimulatedWorker> workersByUrl) {
+        int index = 0;
+        for (SimulationConfig.WorkerGroup group : config.getWorkerGroups()) {
+            for (int i = 0; i < group.getCount(); i++, index++) {
+                SimulatedWorker worker = new SimulatedWorker("worker-" + index, group, config.getSeed() * 31 + index);
+                workersByUrl.put(worker.getUrl(), worker);
+                registry.registerWorker(worker.getWorkerId(), worker.getUrl(),
+                        new ResourceVector(worker.getCapacity(), 0), worker.getCapabilities().toArray(String[]::new));
+                scheduleHeartbeats(loop, registry, worker);
+                scheduleCrash(loop, worker);
+            }
+        }
+        Duration staleTimeout = Duration.ofMillis(config.getStaleTimeoutMs());
+        repeat(loop, config.getHeartbeatIntervalMs(), () -> registry.detectStaleWorkers(staleTimeout));
+    }
+
+    private void scheduleHeartbeats(EventLoop loop, InMemoryWorkerRegistry registry, SimulatedWorker worker) {
+        repeat(loop, config.getHeartbeatIntervalMs(), () -> {
+            if (worker.heartbeatDelivered()) {
+                registry.updateHeartbeat(worker.getWorkerId());
+            }
+        });
+    }
+
+    private void scheduleCrash(EventLoop loop, SimulatedWorker worker) {
+        long delay = worker.nextCrashDelayMs();
+        if (delay < 0) {
+            return;
+        }
+        loop.scheduleAfter(delay, () -> {
+            crashes++;
+            for (String jobId : worker.crash()) {
+                if (outstanding.contains(jobId)) {
+                    lostOutstanding.add(jobId);
+                }
+            }
+            loop.scheduleAfter(worker.recoveryDelayMs(), () -> {
+                worker.recover();
+                scheduleCrash(loop, worker);
+            });
+        });
+    }
+
+    private void scheduleArrivals(EventLoop loop, InMemoryJobStorage storage, long arrivalsEnd) {
+        Random random = new Random(config.getSeed());
+        List<String> types = config.getJobTypes();
+        double meanGapMs = 1000.0 / config.getArrivalRatePerSec();
+        long[] sequence = {0};
+        Runnable arrival = new Runnable() {
+            @Override
+            public void run() {
+                String jobId = "sim-" + sequence[0]++;
+                Job job = Job.builder(jobId, jobId, types.get(random.nextInt(types.size())))
+                        .clock(loop.getClock())
+                        .build();
+                outstanding.add(jobId);
+                storage.submit(job);
+                long next = loop.getClock().millis() + Math.round(-meanGapMs * Math.log(1 - random.nextDouble()));
+                if (next < arrivalsEnd) {
+                    loop.schedule(next, this);
+                }
+            }
+        };
+        loop.scheduleAfter(0, arrival);
+    }
+
+    private static void repeat(EventLoop loop, long periodMs, Runnable task) {
+        loop.scheduleAfter(periodMs, new Runnable() {
+            @Override
+            public void run() {
+                task.run();
+                loop.scheduleAfter(periodMs, this);
+            }
+        });
+    }
+
+    private void onStatusChange(Job job, JobStatus current, long nowMillis) {
+        if ((current != JobStatus.SUCCESS && current != JobStatus.FAILED) || !outstanding.remove(job.getJobId())) {
+            return;
+        }
+        lostOutstanding.remove(job.getJobId());
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencyCount * 2);
+        }
+        latencies[latencyCount++] = nowMillis - job.getCreatedAt().toEpochMilli();
+        retries += job.getRetryCount();
+        if (current == JobStatus.SUCCESS) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+
+    private SimulationReport report(long simulatedMillis, long events, long wallClockMillis) {
+        SimulationReport report = new SimulationReport();
+        report.setSucceeded(succeeded);
+        report.setFailed(failed);
+        report.setLost(lostOutstanding.size());
+        report.setIncomplete(outstanding.size() - lostOutstanding.size());
+        report.setSubmitted(succeeded + failed + outstanding.size());
+        report.setRetries(retries);
+        report.setWorkerCrashes(crashes);
+        report.setSimulatedSeconds(simulatedMillis / 1000.0);
+        report.setThroughputPerSec(simulatedMillis > 0 ? (succeeded + failed) * 1000.0 / simulatedMillis : 0);
+
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        report.setLatencyP50Ms(percentile(sorted, 0.50));
+        report.setLatencyP90Ms(percentile(sorted, 0.90));
+        report.setLatencyP99Ms(percentile(sorted, 0.99));
+        report.setLatencyP999Ms(percentile(sorted, 0.999));
+        report.setLatencyMaxMs(sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        report.setLatencyMeanMs(Arrays.stream(sorted).average().orElse(0));
+        report.setEventsProcessed(events);
+        report.setWallClockMillis(wallClockMillis);
+        return report;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
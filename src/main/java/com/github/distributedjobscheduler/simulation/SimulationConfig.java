@@ -0,0 +1,120 @@
+package com.github.distributedjobscheduler.simulation;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parameters of one simulation run. The same config and seed always produce the same report.
+ */
+@Getter
+@Setter
+public class SimulationConfig {
+
+    /**
+     * Seed for arrivals and every simulated worker.
+     */
+    private long seed = 1L;
+
+    /**
+     * Virtual start time.
+     */
+    private Instant start = Instant.parse("2026-01-01T00:00:00Z");
+
+    /**
+     * How long jobs arrive, in virtual time.
+     */
+    private Duration duration = Duration.ofHours(1);
+
+    /**
+     * Extra virtual time allowed for outstanding jobs to finish after arrivals stop.
+     */
+    private Duration drainTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Mean job arrival rate (Poisson), jobs per virtual second.
+     */
+    private double arrivalRatePerSec = 10;
+
+    /**
+     * Job types; each arrival picks one uniformly.
+     */
+    private List<String> jobTypes = new ArrayList<>(List.of("default"));
+
+    /**
+     * Scheduler settings under test (poll interval, retries, hedging).
+     */
+    private SchedulerProperties scheduler = new SchedulerProperties();
+
+    /**
+     * Worker selection settings under test.
+     */
+    private PlacementStrategy placement = PlacementStrategy.BEST_FIT;
+    private int affinityVirtualNodes = 100;
+    private double affinityLoadFactor = 1.25;
+
+    /**
+     * Worker heartbeat period; stale detection runs at the same period, as WorkerMonitor does.
+     */
+    private long heartbeatIntervalMs = 10_000L;
+
+    /**
+     * Heartbeat age after which a worker is marked STALE.
+     */
+    private long staleTimeoutMs = 30_000L;
+
+    private List<WorkerGroup> workerGroups = new ArrayList<>(List.of(new WorkerGroup()));
+
+    /**
+     * A set of identical simulated workers.
+     */
+    @Getter
+    @Setter
+    public static class WorkerGroup {
+
+        private int count = 4;
+
+        private List<String> capabilities = new ArrayList<>(List.of("default"));
+
+        /**
+         * Concurrent jobs per worker; also advertised to the registry as CPU slots.
+         */
+        private int capacity = 8;
+
+        /**
+         * Service-time distribution, see {@link ServiceTimeDistribution}.
+         */
+        private String serviceTime = "exponential:500";
+
+        /**
+         * Fraction of accepted jobs that finish FAILED.
+         */
+        private double failureRate = 0.0;
+
+        /**
+         * Fraction of deliveries that fail (the scheduler retries them).
+         */
+        private double dispatchErrorRate = 0.0;
+
+        /**
+         * Fraction of heartbeats lost on the way to the registry.
+         */
+        private double heartbeatLossRate = 0.0;
+
+        /**
+         * Mean virtual time between crashes (exponential); 0 disables crashes.
+         */
+        private long meanTimeBetweenCrashesMs = 0L;
+
+        /**
+         * Mean virtual downtime after a crash (exponential).
+         */
+        private long meanTimeToRecoverMs = 60_000L;
+    }
+}
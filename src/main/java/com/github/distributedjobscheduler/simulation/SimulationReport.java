@@ -0,0 +1,60 @@
+package com.github.distributedjobscheduler.simulation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Outcome of a simulation run. Two reports from the same config and seed are equal.
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+public class SimulationReport {
+
+    private long submitted;
+    private long succeeded;
+    private long failed;
+
+    /**
+     * Jobs dropped by crashed workers that never finished (they stay IN_PROGRESS).
+     */
+    private long lost;
+
+    /**
+     * Jobs neither finished nor lost when the drain timeout expired.
+     */
+    private long incomplete;
+
+    /**
+     * Scheduler-level retries (sum of retryCount over finished jobs).
+     */
+    private long retries;
+
+    private long workerCrashes;
+
+    private double simulatedSeconds;
+
+    /**
+     * Finished jobs per simulated second.
+     */
+    private double throughputPerSec;
+
+    // submit-to-complete latency in simulated milliseconds
+    private double latencyP50Ms;
+    private double latencyP90Ms;
+    private double latencyP99Ms;
+    private double latencyP999Ms;
+    private double latencyMaxMs;
+    private double latencyMeanMs;
+
+    private long eventsProcessed;
+
+    /**
+     * Real time the run took; not part of equality.
+     */
+    @EqualsAndHashCode.Exclude
+    private long wallClockMillis;
+}
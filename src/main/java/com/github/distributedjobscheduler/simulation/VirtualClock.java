@@ -0,0 +1,45 @@
+package com.github.distributedjobscheduler.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock that only moves when the {@link EventLoop} advances it.
+ */
+public class VirtualClock extends Clock {
+
+    private long millis;
+
+    public VirtualClock(Instant start) {
+        this.millis = start.toEpochMilli();
+    }
+
+    void advanceTo(long epochMillis) {
+        if (epochMillis < millis) {
+            throw new IllegalStateException("Virtual time cannot go backwards: " + epochMillis + " < " + millis);
+        }
+        millis = epochMillis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.distributedjobscheduler.simulation;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ScheduledExecutorService} whose tasks are events on an {@link EventLoop}, so components
+ * that schedule work through {@code SchedulerTaskExecutor} run on virtual time.
+ * <p>
+ * Everything runs on the thread driving the loop; blocking {@code get()} on an unfinished future
+ * would deadlock and is rejected instead.
+ */
+public class VirtualTimeExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final EventLoop loop;
+    private boolean shutdown;
+
+    public VirtualTimeExecutor(EventLoop loop) {
+        this.loop = loop;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(() -> {
+            command.run();
+            return null;
+        }, delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        VirtualFuture<V> future = new VirtualFuture<>();
+        future.event = loop.scheduleAfter(unit.toMillis(delay), () -> future.runOnce(callable));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return schedulePeriodic(command, unit.toMillis(initialDelay), unit.toMillis(period));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        // tasks take no virtual time, so fixed delay and fixed rate coincide
+        return schedulePeriodic(command, unit.toMillis(initialDelay), unit.toMillis(delay));
+    }
+
+    private ScheduledFuture<?> schedulePeriodic(Runnable command, long initialDelayMs, long periodMs) {
+        if (periodMs <= 0) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+        VirtualFuture<Void> future = new VirtualFuture<>();
+        future.event = loop.scheduleAfter(initialDelayMs, new Runnable() {
+            @Override
+            public void run() {
+                if (shutdown || future.isCancelled()) {
+                    return;
+                }
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    future.fail(e); // like ScheduledThreadPoolExecutor: a failing periodic task stops
+                    return;
+                }
+                future.event = loop.schedule(future.event.getTime() + periodMs, this);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return shutdown;
+    }
+
+    private final class VirtualFuture<V> implements ScheduledFuture<V> {
+        private EventLoop.Event event;
+        private boolean done;
+        private boolean cancelled;
+        private V result;
+        private Throwable failure;
+
+        private void runOnce(Callable<V> callable) {
+            if (shutdown || cancelled) {
+                return;
+            }
+            try {
+                result = callable.call();
+            } catch (Exception e) {
+                failure = e;
+            }
+            done = true;
+        }
+
+        private void fail(Throwable e) {
+            failure = e;
+            done = true;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(event.getTime() - loop.getClock().millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done) {
+                return false;
+            }
+            cancelled = true;
+            done = true;
+            event.cancel();
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public V get() throws ExecutionException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            if (!done) {
+                throw new IllegalStateException("Task has not run yet; advance the event loop first");
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return result;
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws ExecutionException {
+            return get();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.distributedjobscheduler.storage;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+
+/**
+ * Callback invoked by a {@link JobStorage} after a job's status has changed.
+ * Listeners run on the caller's thread and must not block.
+ */
+@FunctionalInterface
+public interface JobStatusListener {
+
+    void onStatusChange(Job job, JobStatus previous, JobStatus current);
+}
@@ -4,12 +4,47 @@ import com.github.distributedjobscheduler.model.Job;
 import com.github.distributedjobscheduler.model.JobStatus;
 
 import java.util.List;
+import java.util.Set;
 
 public interface JobStorage {
 
     void save(Job job);
+
+    /**
+     * Saves a newly submitted job unless its idempotency key was already used by another job
+     * inside the deduplication window.
+     *
+     * @return false if the job was dropped as a duplicate
+     */
+    default boolean submit(Job job) {
+        save(job);
+        return true;
+    }
     void updateStatus(String jobId, JobStatus status);
+
+    /**
+     * Changes the job's status only while it is one of {@code expected}, e.g. to mark a job
+     * IN_PROGRESS without clobbering a completion the worker already reported. The default is a
+     * check-then-update; storages that can should make it atomic.
+     *
+     * @return whether the status was changed
+     */
+    default boolean updateStatusIf(String jobId, Set<JobStatus> expected, JobStatus status) {
+        Job job = findById(jobId);
+        if (job == null || !expected.contains(job.getStatus())) {
+            return false;
+        }
+        updateStatus(jobId, status);
+        return true;
+    }
     Job findById(String jobId);
     List<Job> findAll();
     List<Job> getPendingJobs();
+
+    /**
+     * Registers a listener notified after {@link #updateStatus} changes a job's status.
+     * Storages that cannot notify ignore the registration.
+     */
+    default void addStatusListener(JobStatusListener listener) {
+    }
 }
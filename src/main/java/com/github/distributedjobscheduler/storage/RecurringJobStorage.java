@@ -0,0 +1,42 @@
+package com.github.distributedjobscheduler.storage;
+
+import com.github.distributedjobscheduler.model.RecurringJobDefinition;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Persists recurring job definitions and their next fire time.
+ * <p>
+ * Materialization is exactly-once across scheduler nodes: a node saves the due fires under
+ * deterministic job ids and only then advances the schedule with {@link #compareAndSetNextFireTime},
+ * so a fire is never lost to a crash between the two, and a node that repeats it finds the jobs
+ * already saved. Shared implementations must make the compare-and-set atomic (e.g. a conditional
+ * UPDATE ... WHERE next_fire = ?).
+ */
+public interface RecurringJobStorage {
+
+    /**
+     * Stores (or replaces) a definition together with its first fire time.
+     */
+    void save(RecurringJobDefinition definition, Instant nextFireTime);
+
+    void delete(String id);
+
+    RecurringJobDefinition findById(String id);
+
+    List<RecurringJobDefinition> findAll();
+
+    /**
+     * @return the stored next fire time, or {@code null} if the definition is unknown or finished
+     */
+    Instant getNextFireTime(String id);
+
+    /**
+     * Atomically moves the next fire time from {@code expected} to {@code next}
+     * ({@code null} marks the schedule as finished).
+     *
+     * @return true if this caller advanced the schedule
+     */
+    boolean compareAndSetNextFireTime(String id, Instant expected, Instant next);
+}
@@ -0,0 +1,30 @@
+package com.github.distributedjobscheduler.storage.blob;
+
+import com.github.distributedjobscheduler.model.PayloadReference;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Storage for large job payloads that should not live on the heap.
+ * Implementations may be local (memory-mapped files) or remote (S3, GCS, etc.).
+ */
+public interface BlobStore {
+
+    /**
+     * Persists the given bytes and returns a reference that can be stored on the {@code Job}.
+     */
+    PayloadReference store(byte[] content);
+
+    /**
+     * Opens a read-only view of the blob. The returned buffer is positioned at 0
+     * and is not guaranteed to be heap-backed.
+     *
+     * @throws java.util.NoSuchElementException if the blob does not exist
+     */
+    ByteBuffer open(PayloadReference reference);
+
+    /**
+     * Removes the blob. Deleting an unknown blob is a no-op.
+     */
+    void delete(PayloadReference reference);
+}
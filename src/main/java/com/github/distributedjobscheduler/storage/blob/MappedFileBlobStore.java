@@ -0,0 +1,84 @@
+package com.github.distributedjobscheduler.storage.blob;
+
+import com.github.distributedjobscheduler.model.PayloadReference;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Local {@link BlobStore} that keeps one file per blob and serves reads through
+ * memory-mapped buffers, so blob contents stay off-heap (page cache) until consumed.
+ */
+@Slf4j
+public class MappedFileBlobStore implements BlobStore {
+
+    private static final String SUFFIX = ".blob";
+
+    private final Path directory;
+
+    public MappedFileBlobStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create blob directory " + directory, e);
+        }
+    }
+
+    @Override
+    public PayloadReference store(byte[] content) {
+        String blobId = UUID.randomUUID().toString();
+        CRC32C crc = new CRC32C();
+        crc.update(content);
+
+        Path target = pathOf(blobId);
+        try {
+            // write to a temp file first so readers never observe a partial blob
+            Path tmp = Files.createTempFile(directory, blobId, ".tmp");
+            Files.write(tmp, content, StandardOpenOption.TRUNCATE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store blob " + blobId, e);
+        }
+
+        log.debug("Stored blob {} ({} bytes)", blobId, content.length);
+        return new PayloadReference(blobId, content.length, crc.getValue());
+    }
+
+    @Override
+    public ByteBuffer open(PayloadReference reference) {
+        Path path = pathOf(reference.getBlobId());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            throw new NoSuchElementException("Blob not found: " + reference.getBlobId());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open blob " + reference.getBlobId(), e);
+        }
+    }
+
+    @Override
+    public void delete(PayloadReference reference) {
+        try {
+            Files.deleteIfExists(pathOf(reference.getBlobId()));
+        } catch (IOException e) {
+            log.warn("Failed to delete blob {}: {}", reference.getBlobId(), e.getMessage());
+        }
+    }
+
+    private Path pathOf(String blobId) {
+        return directory.resolve(blobId + SUFFIX);
+    }
+}
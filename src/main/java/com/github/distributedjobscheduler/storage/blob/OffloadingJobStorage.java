@@ -0,0 +1,100 @@
+package com.github.distributedjobscheduler.storage.blob;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.storage.JobStatusListener;
+import com.github.distributedjobscheduler.storage.JobStorage;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link JobStorage} decorator that offloads large payloads before they reach the delegate
+ * and drops the backing blob once a job reaches a terminal status. Blobs are dropped from a
+ * status listener, so jobs the delegate finishes on its own (e.g. children failed with their
+ * parent) are covered too.
+ */
+public class OffloadingJobStorage implements JobStorage {
+
+    private final JobStorage delegate;
+    private final PayloadOffloader offloader;
+
+    public OffloadingJobStorage(JobStorage delegate, PayloadOffloader offloader) {
+        this.delegate = delegate;
+        this.offloader = offloader;
+        delegate.addStatusListener(this::discardWhenFinished);
+    }
+
+    @Override
+    public void save(Job job) {
+        store(job, offloaded -> {
+            delegate.save(offloaded);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean submit(Job job) {
+        return store(job, delegate::submit);
+    }
+
+    /**
+     * Offloads the payload unless the job already references a blob, writes the job through, and
+     * deletes whichever blob is left unreferenced: the new one if the delegate dropped the write as
+     * a duplicate, the previous one if an upsert replaced it with a different payload.
+     */
+    private boolean store(Job job, Predicate<Job> write) {
+        Job previous = delegate.findById(job.getJobId());
+        Job offloaded = job.isPayloadOffloaded() ? job : offloader.offload(job);
+        boolean written = write.test(offloaded);
+        Job stored = delegate.findById(job.getJobId());
+        if (offloaded != job && !sameBlob(offloaded, stored)) {
+            offloader.discard(offloaded);
+        }
+        if (previous != null && previous.isPayloadOffloaded() && !sameBlob(previous, stored)) {
+            offloader.discard(previous);
+        }
+        return written;
+    }
+
+    private static boolean sameBlob(Job job, Job stored) {
+        return stored != null && job.getPayloadRef().equals(stored.getPayloadRef());
+    }
+
+    @Override
+    public void updateStatus(String jobId, JobStatus status) {
+        delegate.updateStatus(jobId, status);
+    }
+
+    @Override
+    public boolean updateStatusIf(String jobId, Set<JobStatus> expected, JobStatus status) {
+        return delegate.updateStatusIf(jobId, expected, status);
+    }
+
+    @Override
+    public Job findById(String jobId) {
+        return delegate.findById(jobId);
+    }
+
+    @Override
+    public List<Job> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Job> getPendingJobs() {
+        return delegate.getPendingJobs();
+    }
+
+    @Override
+    public void addStatusListener(JobStatusListener listener) {
+        delegate.addStatusListener(listener);
+    }
+
+    private void discardWhenFinished(Job job, JobStatus previous, JobStatus current) {
+        if (current == JobStatus.SUCCESS || current == JobStatus.FAILED) {
+            offloader.discard(job);
+        }
+    }
+}
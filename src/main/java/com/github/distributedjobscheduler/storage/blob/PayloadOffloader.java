@@ -0,0 +1,114 @@
+package com.github.distributedjobscheduler.storage.blob;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.PayloadReference;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Moves payloads above a size threshold into a {@link BlobStore} and reads them back on demand.
+ * Offloaded jobs keep an empty payload map and a {@link PayloadReference}.
+ */
+@Slf4j
+public class PayloadOffloader {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final BlobStore blobStore;
+    private final ObjectMapper objectMapper;
+    private final long thresholdBytes;
+
+    public PayloadOffloader(BlobStore blobStore, ObjectMapper objectMapper, long thresholdBytes) {
+        this.blobStore = blobStore;
+        this.objectMapper = objectMapper;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * Returns the job unchanged if its payload is small (or already offloaded),
+     * otherwise a copy whose payload has been written to the blob store.
+     */
+    public Job offload(Job job) {
+        if (job.isPayloadOffloaded() || job.getPayload().isEmpty()) {
+            return job;
+        }
+
+        byte[] serialized;
+        try {
+            serialized = objectMapper.writeValueAsBytes(job.getPayload());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize payload of job " + job.getJobId(), e);
+        }
+        if (serialized.length <= thresholdBytes) {
+            return job;
+        }
+
+        PayloadReference ref = blobStore.store(serialized);
+        log.debug("Offloaded payload of job {} ({} bytes) to blob {}", job.getJobId(), serialized.length, ref.getBlobId());
+        return job.toBuilder()
+                .payload(Map.of())
+                .payloadRef(ref)
+                .build();
+    }
+
+    /**
+     * Reads an offloaded payload back into a map, verifying its checksum.
+     * Returns the inline payload for jobs that were never offloaded.
+     */
+    public Map<String, Object> materialize(Job job) {
+        if (!job.isPayloadOffloaded()) {
+            return job.getPayload();
+        }
+        ByteBuffer buffer = openPayload(job);
+        verifyChecksum(job.getPayloadRef(), buffer.duplicate());
+
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try {
+            return objectMapper.readValue(bytes, PAYLOAD_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize payload of job " + job.getJobId(), e);
+        }
+    }
+
+    /**
+     * Opens the serialized (JSON) payload of an offloaded job without copying it onto the heap.
+     */
+    public ByteBuffer openPayload(Job job) {
+        PayloadReference ref = job.getPayloadRef();
+        ByteBuffer buffer = blobStore.open(ref);
+        if (buffer.remaining() != ref.getSize()) {
+            throw new IllegalStateException("Blob " + ref.getBlobId() + " has size " + buffer.remaining()
+                    + ", expected " + ref.getSize());
+        }
+        return buffer;
+    }
+
+    /**
+     * Deletes the blob backing the job's payload, if any.
+     */
+    public void discard(Job job) {
+        if (job.isPayloadOffloaded()) {
+            blobStore.delete(job.getPayloadRef());
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    private static void verifyChecksum(PayloadReference ref, ByteBuffer buffer) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer);
+        if (crc.getValue() != ref.getChecksum()) {
+            throw new IllegalStateException("Checksum mismatch for blob " + ref.getBlobId());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.distributedjobscheduler.storage.dag;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Tracks parent/child edges between jobs and a pending-parent counter per waiting child.
+ * <p>
+ * Each edge is touched exactly twice: once when the child is registered and once when the parent
+ * finishes, so readiness costs O(1) per edge regardless of how many jobs exist. Storages call
+ * {@link #register} on submission and {@link #onFinished} after a job reaches SUCCESS or FAILED;
+ * both must observe the parent's status consistently, which the tracker's lock guarantees as long
+ * as the storage sets the new status before calling {@link #onFinished} and publishes the child
+ * through the {@code publish} callback of {@link #register}.
+ */
+public class DependencyTracker {
+
+    private final Map<String, List<String>> childrenByParent = new HashMap<>();
+    private final Map<String, Integer> pendingParents = new HashMap<>();
+
+    /**
+     * Registers a child's dependencies.
+     *
+     * @param statusOf looks up the current status of a parent (null if not submitted yet)
+     * @return the status the child should start with: QUEUED if every parent already succeeded,
+     *         FAILED if a parent already failed, WAITING otherwise
+     */
+    public JobStatus register(Job child, Function<String, JobStatus> statusOf) {
+        return register(child, statusOf, job -> { });
+    }
+
+    /**
+     * Registers a child's dependencies, sets its initial status and then hands it to {@code publish},
+     * all under the tracker's lock. Storages make the child visible (to polls and to parents finishing
+     * concurrently) only from {@code publish}, so it is never seen with a status it is about to lose.
+     */
+    public synchronized JobStatus register(Job child, Function<String, JobStatus> statusOf, Consumer<Job> publish) {
+        JobStatus initial = initialStatus(child, statusOf);
+        child.setStatus(initial);
+        publish.accept(child);
+        return initial;
+    }
+
+    private JobStatus initialStatus(Job child, Function<String, JobStatus> statusOf) {
+        int pending = 0;
+        List<String> waitingOn = new ArrayList<>();
+        for (String parentId : child.getParentJobIds()) {
+            JobStatus parentStatus = statusOf.apply(parentId);
+            if (parentStatus == JobStatus.FAILED) {
+                return JobStatus.FAILED;
+            }
+            if (parentStatus != JobStatus.SUCCESS) {
+                waitingOn.add(parentId);
+                pending++;
+            }
+        }
+        if (pending == 0) {
+            return JobStatus.QUEUED;
+        }
+        for (String parentId : waitingOn) {
+            childrenByParent.computeIfAbsent(parentId, p -> new ArrayList<>()).add(child.getJobId());
+        }
+        pendingParents.put(child.getJobId(), pending);
+        return JobStatus.WAITING;
+    }
+
+    /**
+     * Records that a parent reached a terminal status and returns the children whose status must
+     * change: to QUEUED when their last pending parent succeeded, or to FAILED when a parent failed.
+     */
+    public synchronized Map<String, JobStatus> onFinished(String parentId, JobStatus parentStatus) {
+        List<String> children = childrenByParent.remove(parentId);
+        if (children == null) {
+            return Map.of();
+        }
+        Map<String, JobStatus> transitions = new HashMap<>();
+        for (String childId : children) {
+            Integer pending = pendingParents.get(childId);
+            if (pending == null) {
+                continue; // already failed through another parent
+            }
+            if (parentStatus == JobStatus.FAILED) {
+                pendingParents.remove(childId);
+                transitions.put(childId, JobStatus.FAILED);
+            } else if (pending == 1) {
+                pendingParents.remove(childId);
+                transitions.put(childId, JobStatus.QUEUED);
+            } else {
+                pendingParents.put(childId, pending - 1);
+            }
+        }
+        return transitions;
+    }
+
+    public synchronized int waitingCount() {
+        return pendingParents.size();
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.distributedjobscheduler.storage.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, time-windowed index of idempotency keys used to suppress duplicate submissions.
+ * <p>
+ * Two layers:
+ * <ul>
+ *   <li>a pair of rotating Bloom filters (current and previous window) that let {@link #get}
+ *       answer "definitely unknown" for most keys without taking a lock;</li>
+ *   <li>an exact map striped into segments, each kept in insertion order so expired and
+ *       overflowing entries are evicted from the head. It holds the job id that first used the
+ *       key and is the only authority for {@link #putIfAbsent}, which always consults it under the
+ *       segment lock so concurrent submits of the same key cannot both be accepted.</li>
+ * </ul>
+ * Memory is fixed by {@code maxEntries}. A key is remembered for at least {@code windowMs}
+ * unless more than {@code maxEntries} keys arrive within the window.
+ */
+public class IdempotencyIndex {
+
+    private static final int SEGMENTS = 16; // power of two
+
+    private final Clock clock;
+    private final long windowMs;
+    private final long generationMs;
+    private final int bitsPerGeneration;
+    private final int hashFunctions;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private volatile Generations generations;
+
+    public IdempotencyIndex(int maxEntries, long windowMs, double falsePositiveRate, Clock clock) {
+        this.clock = clock;
+        this.windowMs = windowMs;
+        // each generation spans a full window, so a key stays in the Bloom layer at least as long
+        // as its exact entry lives
+        this.generationMs = Math.max(1, windowMs);
+
+        // standard Bloom sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        int n = Math.max(1, maxEntries);
+        double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.bitsPerGeneration = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitsPerGeneration / n * Math.log(2)));
+
+        int perSegment = Math.max(1, maxEntries / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        long now = clock.millis();
+        this.generations = new Generations(new BloomFilter(bitsPerGeneration), new BloomFilter(bitsPerGeneration), now);
+    }
+
+    /**
+     * Records {@code key} for {@code jobId} unless it was already seen inside the window.
+     *
+     * @return the job id that already holds the key, or {@code null} if the key was recorded now
+     */
+    public String putIfAbsent(String key, String jobId) {
+        long now = clock.millis();
+        long hash = hash(key);
+        Generations gen = rotateIfNeeded(now);
+
+        Segment segment = segments[(int) (hash >>> 32) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            segment.evictExpired(now);
+            Entry existing = segment.entries.get(key);
+            if (existing != null && existing.expiresAt > now) {
+                return existing.jobId;
+            }
+            segment.put(key, new Entry(jobId, now + windowMs));
+            // added before the lock is released, so a get() that misses the filter cannot race
+            // past an entry that is already visible in the segment
+            gen.current.add(hash, hashFunctions);
+            return null;
+        }
+    }
+
+    /**
+     * Job id currently holding the key, or {@code null}.
+     */
+    public String get(String key) {
+        long now = clock.millis();
+        long hash = hash(key);
+        Generations gen = generations;
+        if (!gen.current.mightContain(hash, hashFunctions) && !gen.previous.mightContain(hash, hashFunctions)) {
+            return null;
+        }
+        Segment segment = segments[(int) (hash >>> 32) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            return entry != null && entry.expiresAt > now ? entry.jobId : null;
+        }
+    }
+
+    private Generations rotateIfNeeded(long now) {
+        Generations gen = generations;
+        if (now - gen.startedAt < generationMs) {
+            return gen;
+        }
+        synchronized (this) {
+            gen = generations;
+            if (now - gen.startedAt >= generationMs) {
+                // the previous generation is recycled as the new current one; if a whole generation
+                // passed without traffic, the current one is stale too
+                gen.previous.clear();
+                if (now - gen.startedAt >= 2 * generationMs) {
+                    gen.current.clear();
+                }
+                gen = new Generations(gen.previous, gen.current, now);
+                generations = gen;
+            }
+            return gen;
+        }
+    }
+
+    // 64-bit FNV-1a with a murmur3 fmix64 finalizer
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Generations {
+        private final BloomFilter current;
+        private final BloomFilter previous;
+        private final long startedAt;
+
+        private Generations(BloomFilter current, BloomFilter previous, long startedAt) {
+            this.current = current;
+            this.previous = previous;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * Lock-free Bloom filter using double hashing (h1 + i * h2) over a single 64-bit hash.
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final int bits;
+
+        private BloomFilter(int bits) {
+            this.bits = bits;
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        void add(long hash, int k) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < k; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(long hash, int k) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < k; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0L);
+            }
+        }
+    }
+
+    private static final class Segment {
+        // insertion order == expiry order, since every entry gets the same TTL
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        private final int maxEntries;
+
+        private Segment(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        void put(String key, Entry entry) {
+            entries.remove(key); // re-insert at the tail
+            entries.put(key, entry);
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+
+        void evictExpired(long now) {
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext() && it.next().getValue().expiresAt <= now) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String jobId;
+        private final long expiresAt;
+
+        private Entry(String jobId, long expiresAt) {
+            this.jobId = jobId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
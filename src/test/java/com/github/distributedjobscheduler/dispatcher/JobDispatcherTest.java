@@ -0,0 +1,91 @@
+package com.github.distributedjobscheduler.dispatcher;
+
+import com.github.distributedjobscheduler.jfr.DispatchAttemptEvent;
+import com.github.distributedjobscheduler.jfr.RecordedEvents;
+import com.github.distributedjobscheduler.model.Job;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobDispatcherTest {
+
+    private final List<String> traceparents = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    private DisposableServer worker;
+    private JobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // answers 503 while failuresLeft > 0, then 202, recording each request's traceparent
+        worker = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/execute-job", (request, response) -> {
+                    traceparents.add(request.requestHeaders().get(TraceContext.TRACEPARENT_HEADER));
+                    HttpResponseStatus status = failuresLeft.getAndDecrement() > 0
+                            ? HttpResponseStatus.SERVICE_UNAVAILABLE
+                            : HttpResponseStatus.ACCEPTED;
+                    return request.receive().then(response.status(status).send());
+                }))
+                .bindNow();
+        Retry retry = Retry.of("test", RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        dispatcher = new JobDispatcher(WebClient.builder(), retry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.disposeNow();
+    }
+
+    @Test
+    void dispatch_sendsTraceparentAndCommitsOneEventPerAttempt() throws Exception {
+        failuresLeft.set(1);
+        Job job = Job.builder("job-1", "render", "pdf").build();
+        String url = "http://127.0.0.1:" + worker.port();
+        boolean[] delivered = new boolean[1];
+
+        List<RecordedEvent> events = RecordedEvents.ofType(
+                RecordedEvents.during(() -> delivered[0] = dispatcher.dispatch(job, url), DispatchAttemptEvent.class),
+                DispatchAttemptEvent.class);
+
+        assertTrue(delivered[0]);
+        assertEquals(2, traceparents.size());
+        for (String header : traceparents) {
+            assertTrue(header != null && header.matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01"), String.valueOf(header));
+        }
+
+        List<RecordedEvent> attempts = events.stream().filter(e -> "job-1".equals(e.getString("jobId"))).toList();
+        assertEquals(2, attempts.size());
+        assertEquals(503, attempts.get(0).getInt("httpStatus"));
+        assertEquals(202, attempts.get(1).getInt("httpStatus"));
+        assertEquals(2, attempts.get(1).getInt("attempt"));
+
+        // the events carry the ids that were on the wire: one trace, a new span per attempt
+        for (int i = 0; i < 2; i++) {
+            assertEquals(traceparents.get(i), "00-" + attempts.get(i).getString("traceId") + "-"
+                    + attempts.get(i).getString("spanId") + "-01");
+        }
+        assertEquals(attempts.get(0).getString("traceId"), attempts.get(1).getString("traceId"));
+        assertNotEquals(attempts.get(0).getString("spanId"), attempts.get(1).getString("spanId"));
+    }
+}
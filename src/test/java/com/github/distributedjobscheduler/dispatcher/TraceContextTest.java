@@ -0,0 +1,27 @@
+package com.github.distributedjobscheduler.dispatcher;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TraceContextTest {
+
+    @Test
+    void traceparent_isWellFormed() {
+        String header = TraceContext.forJob("job-1").toTraceparent();
+
+        assertTrue(header.matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01"), header);
+    }
+
+    @Test
+    void attemptsOfOneJob_shareTraceIdButNotSpanId() {
+        TraceContext first = TraceContext.forJob("job-1");
+        TraceContext retry = TraceContext.forJob("job-1");
+
+        assertEquals(first.getTraceId(), retry.getTraceId());
+        assertNotEquals(first.getSpanId(), retry.getSpanId());
+        assertNotEquals(first.getTraceId(), TraceContext.forJob("job-2").getTraceId());
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.distributedjobscheduler.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records the given JFR events in-process while an action runs, for asserting what was committed.
+ */
+public final class RecordedEvents {
+
+    private RecordedEvents() {
+    }
+
+    @SafeVarargs
+    public static List<RecordedEvent> during(Runnable action, Class<? extends jdk.jfr.Event>... eventTypes) throws IOException {
+        Path file = Files.createTempFile("dispatch-path", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<? extends jdk.jfr.Event> eventType : eventTypes) {
+                recording.enable(eventType).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    public static List<RecordedEvent> ofType(List<RecordedEvent> events, Class<? extends jdk.jfr.Event> eventType) {
+        String name = eventType.getAnnotation(jdk.jfr.Name.class).value();
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.distributedjobscheduler.metrics;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MicrometerSchedulerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InMemoryJobStorage storage = new InMemoryJobStorage();
+    private final MicrometerSchedulerMetrics metrics = new MicrometerSchedulerMetrics(registry, storage, false, 0L);
+
+    @Test
+    void dispatchTimers_areTaggedByTypeWorkerAndOutcome() {
+        Job job = Job.builder("job-1", "render", "pdf").build();
+
+        metrics.recordDispatch(job, "http://w1", TimeUnit.MILLISECONDS.toNanos(20), true);
+        metrics.recordDispatch(job, "http://w1", TimeUnit.MILLISECONDS.toNanos(40), true);
+        metrics.recordDispatch(job, "http://w1", TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertEquals(2, registry.get("job.scheduler.dispatch.latency")
+                .tags("type", "pdf", "worker", "http://w1", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("job.scheduler.dispatch.latency")
+                .tags("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void metersAreRegisteredOnceAndReused() {
+        Job job = Job.builder("job-1", "render", "pdf").build();
+        metrics.recordRetry(job);
+        metrics.recordRetry(job);
+        metrics.recordFailure(job);
+
+        assertSame(registry.get("job.scheduler.jobs.retries").tag("type", "pdf").counter(),
+                registry.find("job.scheduler.jobs.retries").counter());
+        assertEquals(2.0, registry.get("job.scheduler.jobs.retries").counter().count());
+        assertEquals(1.0, registry.get("job.scheduler.jobs.failures").counter().count());
+    }
+
+    @Test
+    void gauges_trackInFlightPerWorkerAndJobsByStatus() {
+        metrics.workerAssigned("http://w1");
+        metrics.workerAssigned("http://w1");
+        metrics.workerReleased("http://w1");
+        storage.submit(Job.builder("a", "a", "pdf").build());
+        storage.submit(Job.builder("b", "b", "pdf").build());
+        storage.updateStatus("b", JobStatus.IN_PROGRESS);
+
+        assertEquals(1.0, registry.get("job.scheduler.worker.inflight").tag("worker", "http://w1").gauge().value());
+        assertEquals(1.0, registry.get("job.scheduler.jobs").tag("status", "QUEUED").gauge().value());
+        assertEquals(1.0, registry.get("job.scheduler.jobs").tag("status", "IN_PROGRESS").gauge().value());
+    }
+
+    @Test
+    void statusGauges_refreshOnTheInjectedClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        SimpleMeterRegistry cachedRegistry = new SimpleMeterRegistry();
+        new MicrometerSchedulerMetrics(cachedRegistry, storage, false, 1_000L, clock);
+        storage.submit(Job.builder("a", "a", "pdf").build());
+        assertEquals(1.0, cachedRegistry.get("job.scheduler.jobs").tag("status", "QUEUED").gauge().value());
+
+        storage.submit(Job.builder("b", "b", "pdf").build());
+        assertEquals(1.0, cachedRegistry.get("job.scheduler.jobs").tag("status", "QUEUED").gauge().value(),
+                "snapshot is still fresh");
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(2.0, cachedRegistry.get("job.scheduler.jobs").tag("status", "QUEUED").gauge().value());
+    }
+
+    @Test
+    void activeDispatchGauge_followsStartedAndFinished() {
+        metrics.dispatchStarted();
+        metrics.dispatchStarted();
+        metrics.dispatchFinished();
+
+        assertEquals(1.0, registry.get("job.scheduler.dispatch.active").gauge().value());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
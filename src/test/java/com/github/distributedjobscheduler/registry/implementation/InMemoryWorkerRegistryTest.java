@@ -0,0 +1,109 @@
+package com.github.distributedjobscheduler.registry.implementation;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.ResourceVector;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryWorkerRegistryTest {
+
+    @Test
+    void findAvailableWorker_requiresAllCapabilities() {
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.ANY);
+        registry.registerWorker("cpu", "http://cpu:8080", "pdf");
+        registry.registerWorker("gpu", "http://gpu:8080", "pdf", "gpu");
+
+        Job job = Job.builder("job-1", "render", "pdf")
+                .requiredCapabilities(List.of("gpu"))
+                .build();
+
+        assertEquals(Optional.of("http://gpu:8080"), registry.findAvailableWorker(job));
+        assertTrue(registry.findAvailableWorker(Job.builder("job-2", "render", "pdf")
+                .requiredCapabilities(List.of("tpu"))
+                .build()).isEmpty());
+    }
+
+    @Test
+    void bestFit_packsSmallJobsOntoSmallWorker() {
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.BEST_FIT);
+        registry.registerWorker("small", "http://small:8080", new ResourceVector(2, 2_048), "pdf");
+        registry.registerWorker("large", "http://large:8080", new ResourceVector(16, 65_536), "pdf");
+
+        Job small = Job.builder("job-1", "render", "pdf")
+                .resources(new ResourceVector(1, 1_024))
+                .build();
+
+        assertEquals(Optional.of("http://small:8080"), registry.findAvailableWorker(small));
+    }
+
+    @Test
+    void spread_prefersWorkerWithMostHeadroom() {
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.SPREAD);
+        registry.registerWorker("small", "http://small:8080", new ResourceVector(2, 2_048), "pdf");
+        registry.registerWorker("large", "http://large:8080", new ResourceVector(16, 65_536), "pdf");
+
+        Job small = Job.builder("job-1", "render", "pdf")
+                .resources(new ResourceVector(1, 1_024))
+                .build();
+
+        assertEquals(Optional.of("http://large:8080"), registry.findAvailableWorker(small));
+    }
+
+    @Test
+    void zeroCapacityDimension_isUnbounded() {
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.BEST_FIT);
+        registry.registerWorker("slots-only", "http://slots:8080", new ResourceVector(2, 0), "pdf");
+
+        Job needsMemory = Job.builder("job-1", "render", "pdf")
+                .resources(new ResourceVector(1, 4_096))
+                .build();
+        assertEquals(Optional.of("http://slots:8080"), registry.findAvailableWorker(needsMemory));
+
+        // the declared dimension still caps placement
+        registry.onJobDispatched(needsMemory, "http://slots:8080");
+        registry.onJobDispatched(needsMemory, "http://slots:8080");
+        assertTrue(registry.findAvailableWorker(needsMemory).isEmpty());
+    }
+
+    @Test
+    void unboundedWorker_countsAsFullyFree() {
+        Job job = Job.builder("job-1", "render", "pdf")
+                .resources(new ResourceVector(1, 1_024))
+                .build();
+
+        InMemoryWorkerRegistry bestFit = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.BEST_FIT);
+        bestFit.registerWorker("unbounded", "http://unbounded:8080", new ResourceVector(0, 0), "pdf");
+        bestFit.registerWorker("bounded", "http://bounded:8080", new ResourceVector(4, 8_192), "pdf");
+        assertEquals(Optional.of("http://bounded:8080"), bestFit.findAvailableWorker(job), "BEST_FIT packs the tighter worker");
+
+        InMemoryWorkerRegistry spread = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.SPREAD);
+        spread.registerWorker("unbounded", "http://unbounded:8080", new ResourceVector(0, 0), "pdf");
+        spread.registerWorker("bounded", "http://bounded:8080", new ResourceVector(4, 8_192), "pdf");
+        assertEquals(Optional.of("http://unbounded:8080"), spread.findAvailableWorker(job), "SPREAD prefers the freest worker");
+    }
+
+    @Test
+    void reservedCapacity_isReleasedWhenJobFinishes() {
+        InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.BEST_FIT);
+        registry.registerWorker("only", "http://only:8080", new ResourceVector(4, 8_192), "pdf");
+
+        Job heavy = Job.builder("job-1", "render", "pdf")
+                .resources(new ResourceVector(4, 4_096))
+                .build();
+        Job next = Job.builder("job-2", "render", "pdf")
+                .resources(new ResourceVector(1, 1_024))
+                .build();
+
+        registry.onJobDispatched(heavy, "http://only:8080");
+        assertTrue(registry.findAvailableWorker(next).isEmpty(), "worker should be full");
+
+        registry.onJobReleased(heavy, "http://only:8080");
+        assertEquals(Optional.of("http://only:8080"), registry.findAvailableWorker(next));
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.distributedjobscheduler.registry.routing;
+
+import com.github.distributedjobscheduler.model.Worker;
+import com.github.distributedjobscheduler.model.WorkerStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void select_isStickyForTheSameKey() {
+        ConsistentHashRing ring = ConsistentHashRing.build(workers(5), 100);
+
+        Worker first = ring.select("tenant-42", 0, w -> true).orElseThrow();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first, ring.select("tenant-42", 0, w -> true).orElseThrow());
+        }
+    }
+
+    @Test
+    void removingAWorker_onlyMovesItsOwnKeys() {
+        List<Worker> all = workers(5);
+        ConsistentHashRing before = ConsistentHashRing.build(all, 100);
+        Worker removed = all.get(2);
+        ConsistentHashRing after = ConsistentHashRing.build(all.stream().filter(w -> w != removed).toList(), 100);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key-" + i;
+            Worker owner = before.select(key, 0, w -> true).orElseThrow();
+            Worker newOwner = after.select(key, 0, w -> true).orElseThrow();
+            if (owner != removed) {
+                assertEquals(owner, newOwner, "key " + key + " moved although its worker stayed");
+            } else {
+                moved++;
+            }
+        }
+        // roughly 1/5 of the keys belonged to the removed worker
+        assertTrue(moved > KEYS / 10 && moved < KEYS * 3 / 10, "unexpected number of moved keys: " + moved);
+    }
+
+    @Test
+    void select_spillsOverWhenPreferredWorkerIsOverloaded() {
+        List<Worker> all = workers(4);
+        ConsistentHashRing ring = ConsistentHashRing.build(all, 100);
+        Worker preferred = ring.select("hot-key", 1.25, w -> true).orElseThrow();
+
+        preferred.getInFlight().set(10);
+
+        Worker chosen = ring.select("hot-key", 1.25, w -> true).orElseThrow();
+        assertNotEquals(preferred, chosen);
+    }
+
+    @Test
+    void select_spreadsKeysAcrossWorkers() {
+        ConsistentHashRing ring = ConsistentHashRing.build(workers(4), 100);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.select("key-" + i, 0, w -> true).orElseThrow().getWorkerId(), 1, Integer::sum);
+        }
+
+        assertEquals(4, counts.size());
+        counts.values().forEach(c -> assertTrue(c > KEYS / 8, "worker starved: " + counts));
+    }
+
+    private static List<Worker> workers(int n) {
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Worker worker = new Worker();
+            worker.setWorkerId("worker-" + i);
+            worker.setHost("http://worker-" + i + ":8080");
+            worker.setCapabilities(List.of("cache-refresh"));
+            worker.setStatus(WorkerStatus.ACTIVE);
+            workers.add(worker);
+        }
+        return workers;
+    }
+}
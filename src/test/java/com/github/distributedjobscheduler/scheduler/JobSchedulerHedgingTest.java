@@ -0,0 +1,229 @@
+package com.github.distributedjobscheduler.scheduler;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.dispatcher.JobDispatcher;
+import com.github.distributedjobscheduler.jfr.RecordedEvents;
+import com.github.distributedjobscheduler.jfr.WorkerSelectionEvent;
+import com.github.distributedjobscheduler.metrics.SchedulerMetrics;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.model.Worker;
+import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import io.github.resilience4j.retry.Retry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobSchedulerHedgingTest {
+
+    private static final String W1 = "http://w1:8080";
+    private static final String W2 = "http://w2:8080";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemoryJobStorage storage = new InMemoryJobStorage(null, clock);
+    private final InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.ANY, clock);
+    private final RecordingDispatcher dispatcher = new RecordingDispatcher();
+    private final SchedulerProperties props = new SchedulerProperties();
+
+    private SchedulerTaskExecutor executor;
+    private JobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        registry.registerWorker("w1", W1, "pdf");
+        registry.registerWorker("w2", W2, "pdf");
+        props.getHedging().setEnabled(true);
+        props.getHedging().setTypes(List.of("pdf"));
+        props.getHedging().setPercentile(0.5);
+        props.getHedging().setMinSamples(2);
+        props.getHedging().setMaxHedgeFraction(1.0);
+        executor = new SchedulerTaskExecutor(1, "test-hedging-", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void straggler_isHedgedAndBothCopiesCancelledWhenOneWins() throws Exception {
+        scheduler = scheduler();
+        primeHistory(100);
+
+        String original = dispatchSlowJob("slow", true);
+        clock.advance(Duration.ofMillis(500));
+        List<RecordedEvent> events = RecordedEvents.during(scheduler::pollAndDispatch, WorkerSelectionEvent.class);
+
+        List<String> targets = dispatcher.dispatchesOf("slow");
+        assertEquals(2, targets.size());
+        assertNotEquals(original, targets.get(1), "the hedge must go to a different worker");
+        assertEquals(1, inFlightOn(targets.get(1)));
+        List<RecordedEvent> selections = RecordedEvents.ofType(events, WorkerSelectionEvent.class);
+        assertEquals(1, selections.size());
+        assertTrue(selections.get(0).getBoolean("hedge"));
+        assertEquals(targets.get(1), selections.get(0).getString("workerUrl"));
+
+        storage.updateStatus("slow", JobStatus.SUCCESS);
+        storage.updateStatus("slow", JobStatus.FAILED); // the losing copy reports too
+
+        assertEquals(Set.of(W1, W2), new HashSet<>(dispatcher.cancelsOf("slow")));
+        assertEquals(2, dispatcher.cancelsOf("slow").size(), "the loser's report must not cancel again");
+        assertEquals(JobStatus.SUCCESS, storage.findById("slow").getStatus());
+        assertEquals(0, inFlightOn(W1));
+        assertEquals(0, inFlightOn(W2));
+    }
+
+    @Test
+    void failedHedge_isUndoneAndRetriedOnNextPoll() {
+        scheduler = scheduler();
+        primeHistory(100);
+
+        String original = dispatchSlowJob("slow", true);
+        String other = original.equals(W1) ? W2 : W1;
+        dispatcher.failing.add(other);
+        clock.advance(Duration.ofMillis(500));
+        scheduler.pollAndDispatch();
+
+        assertEquals(List.of(original, other), dispatcher.dispatchesOf("slow"));
+        assertEquals(0, inFlightOn(other), "the failed hedge must release its slot");
+
+        dispatcher.failing.clear();
+        scheduler.pollAndDispatch();
+
+        assertEquals(List.of(original, other, other), dispatcher.dispatchesOf("slow"));
+        assertEquals(1, inFlightOn(other));
+    }
+
+    @Test
+    void nonIdempotentJob_isNeverHedged() {
+        scheduler = scheduler();
+        primeHistory(100);
+
+        dispatchSlowJob("unsafe", false);
+        clock.advance(Duration.ofSeconds(10));
+        scheduler.pollAndDispatch();
+
+        assertEquals(1, dispatcher.dispatchesOf("unsafe").size());
+    }
+
+    @Test
+    void budget_blocksHedgingWhenFractionWouldBeExceeded() {
+        props.getHedging().setMaxHedgeFraction(0.5);
+        scheduler = scheduler();
+        primeHistory(100);
+
+        dispatchSlowJob("slow", true); // floor(0.5 * 1) = 0 hedges allowed
+        clock.advance(Duration.ofMillis(500));
+        scheduler.pollAndDispatch();
+
+        assertEquals(1, dispatcher.dispatchesOf("slow").size());
+    }
+
+    private JobScheduler scheduler() {
+        return new JobScheduler(storage, registry, dispatcher, executor, props, SchedulerMetrics.NOOP, clock);
+    }
+
+    private void primeHistory(long runtimeMs) {
+        for (int i = 0; i < props.getHedging().getMinSamples(); i++) {
+            String jobId = "warmup-" + i;
+            storage.submit(Job.builder(jobId, "render", "pdf").idempotent(true).build());
+            scheduler.pollAndDispatch();
+            clock.advance(Duration.ofMillis(runtimeMs));
+            storage.updateStatus(jobId, JobStatus.SUCCESS);
+        }
+    }
+
+    private String dispatchSlowJob(String jobId, boolean idempotent) {
+        storage.submit(Job.builder(jobId, "render", "pdf").idempotent(idempotent).build());
+        scheduler.pollAndDispatch();
+        assertEquals(JobStatus.IN_PROGRESS, storage.findById(jobId).getStatus());
+        return dispatcher.dispatchesOf(jobId).get(0);
+    }
+
+    private int inFlightOn(String url) {
+        return registry.getAllWorkers().stream()
+                .filter(worker -> worker.getHost().equals(url))
+                .map(Worker::getInFlight)
+                .findFirst()
+                .orElseThrow()
+                .get();
+    }
+
+    private static final class RecordingDispatcher extends JobDispatcher {
+        private final List<String[]> dispatches = new ArrayList<>();
+        private final List<String[]> cancels = new ArrayList<>();
+        private final Set<String> failing = new HashSet<>();
+
+        RecordingDispatcher() {
+            super(WebClient.builder(), Retry.ofDefaults("test"));
+        }
+
+        @Override
+        public boolean dispatch(Job job, String workerUrl) {
+            dispatches.add(new String[]{job.getJobId(), workerUrl});
+            return !failing.contains(workerUrl);
+        }
+
+        @Override
+        public void cancel(Job job, String workerUrl) {
+            cancels.add(new String[]{job.getJobId(), workerUrl});
+        }
+
+        List<String> dispatchesOf(String jobId) {
+            return urls(dispatches, jobId);
+        }
+
+        List<String> cancelsOf(String jobId) {
+            return urls(cancels, jobId);
+        }
+
+        private static List<String> urls(List<String[]> calls, String jobId) {
+            return calls.stream().filter(call -> call[0].equals(jobId)).map(call -> call[1]).toList();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
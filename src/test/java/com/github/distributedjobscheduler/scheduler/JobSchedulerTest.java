@@ -0,0 +1,204 @@
+package com.github.distributedjobscheduler.scheduler;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.dispatcher.JobDispatcher;
+import com.github.distributedjobscheduler.jfr.RecordedEvents;
+import com.github.distributedjobscheduler.jfr.RetryDecisionEvent;
+import com.github.distributedjobscheduler.jfr.WorkerSelectionEvent;
+import com.github.distributedjobscheduler.metrics.SchedulerMetrics;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.registry.implementation.InMemoryWorkerRegistry;
+import com.github.distributedjobscheduler.registry.routing.PlacementStrategy;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import io.github.resilience4j.retry.Retry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobSchedulerTest {
+
+    private final InMemoryJobStorage storage = new InMemoryJobStorage();
+    private final InMemoryWorkerRegistry registry = new InMemoryWorkerRegistry();
+    private final SchedulerTaskExecutor executor = new SchedulerTaskExecutor(1, "test-scheduler-", 1000L);
+    private final AtomicInteger dispatches = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void completionReportedBeforeDispatchReturns_isNotClobberedByInProgress() {
+        registry.registerWorker("w1", "http://w1:8080", "pdf");
+        // the worker finishes and calls back while the dispatch request is still open
+        JobDispatcher fastWorker = new JobDispatcher(WebClient.builder(), Retry.ofDefaults("test")) {
+            @Override
+            public boolean dispatch(Job job, String workerUrl) {
+                storage.updateStatus(job.getJobId(), JobStatus.SUCCESS);
+                return true;
+            }
+        };
+        JobScheduler scheduler = new JobScheduler(storage, registry, fastWorker, executor, new SchedulerProperties());
+        storage.submit(Job.builder("job-1", "render", "pdf").build());
+
+        scheduler.pollAndDispatch();
+
+        assertEquals(JobStatus.SUCCESS, storage.findById("job-1").getStatus());
+        assertEquals(0, registry.getAllWorkers().get(0).getInFlight().get(), "the worker slot must stay released");
+    }
+
+    @Test
+    void successReportedBeforeDispatchFails_isNotRetried() {
+        registry.registerWorker("w1", "http://w1:8080", "pdf");
+        // the worker ran the job and called back, but the dispatch response was lost
+        JobDispatcher lostResponse = new JobDispatcher(WebClient.builder(), Retry.ofDefaults("test")) {
+            @Override
+            public boolean dispatch(Job job, String workerUrl) {
+                storage.updateStatus(job.getJobId(), JobStatus.SUCCESS);
+                dispatches.incrementAndGet();
+                return false;
+            }
+        };
+        JobScheduler scheduler = new JobScheduler(storage, registry, lostResponse, executor, new SchedulerProperties());
+        storage.submit(Job.builder("parent", "render", "pdf").build());
+        storage.submit(Job.builder("child", "upload", "pdf").parentJobIds(List.of("parent")).build());
+
+        scheduler.pollAndDispatch(); // dispatches the parent, which releases the child
+        scheduler.pollAndDispatch(); // dispatches the child
+
+        Job parent = storage.findById("parent");
+        assertEquals(JobStatus.SUCCESS, parent.getStatus());
+        assertEquals(0, parent.getRetryCount());
+        assertEquals(JobStatus.SUCCESS, storage.findById("child").getStatus());
+        assertEquals(2, dispatches.get(), "the finished parent must not be dispatched again");
+        assertEquals(0, registry.getAllWorkers().get(0).getInFlight().get());
+    }
+
+    @Test
+    void queueWait_isMeasuredBeforeTheDispatchCall() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        InMemoryJobStorage clockedStorage = new InMemoryJobStorage(null, clock);
+        InMemoryWorkerRegistry clockedRegistry = new InMemoryWorkerRegistry(100, 1.25, PlacementStrategy.ANY, clock);
+        clockedRegistry.registerWorker("w1", "http://w1:8080", "pdf");
+        JobDispatcher slowWorker = new JobDispatcher(WebClient.builder(), Retry.ofDefaults("test")) {
+            @Override
+            public boolean dispatch(Job job, String workerUrl) {
+                clock.advance(Duration.ofSeconds(3)); // HTTP round trip plus dispatcher retries
+                return true;
+            }
+        };
+        List<Long> queueWaits = new ArrayList<>();
+        SchedulerMetrics metrics = new SchedulerMetrics() {
+            @Override
+            public void recordQueueWait(Job job, long waitMillis) {
+                queueWaits.add(waitMillis);
+            }
+        };
+        JobScheduler scheduler = new JobScheduler(clockedStorage, clockedRegistry, slowWorker, executor,
+                new SchedulerProperties(), metrics, clock);
+        clockedStorage.submit(Job.builder("job-1", "render", "pdf").clock(clock).build());
+        clock.advance(Duration.ofMillis(250));
+
+        scheduler.pollAndDispatch();
+
+        assertEquals(List.of(250L), queueWaits);
+    }
+
+    @Test
+    void failedDispatch_isRequeuedBeforeItsSlotIsReleased() {
+        // records what a concurrent poll would see at the moment the slot frees up
+        List<String> seenAtRelease = new ArrayList<>();
+        InMemoryWorkerRegistry observingRegistry = new InMemoryWorkerRegistry() {
+            @Override
+            public void onJobReleased(Job job, String workerUrl) {
+                seenAtRelease.add(job.getStatus() + "/" + job.getRetryCount());
+                super.onJobReleased(job, workerUrl);
+            }
+        };
+        observingRegistry.registerWorker("w1", "http://w1:8080", "pdf");
+        JobDispatcher unreachable = new JobDispatcher(WebClient.builder(), Retry.ofDefaults("test")) {
+            @Override
+            public boolean dispatch(Job job, String workerUrl) {
+                return false;
+            }
+        };
+        JobScheduler scheduler = new JobScheduler(storage, observingRegistry, unreachable, executor, new SchedulerProperties());
+        storage.submit(Job.builder("job-1", "render", "pdf").build());
+
+        scheduler.pollAndDispatch();
+
+        assertEquals(List.of("RETRY/1"), seenAtRelease);
+    }
+
+    @Test
+    void failedDispatches_commitSelectionAndRetryDecisionEvents() throws Exception {
+        registry.registerWorker("w1", "http://w1:8080", "pdf");
+        JobDispatcher unreachable = new JobDispatcher(WebClient.builder(), Retry.ofDefaults("test")) {
+            @Override
+            public boolean dispatch(Job job, String workerUrl) {
+                return false;
+            }
+        };
+        SchedulerProperties props = new SchedulerProperties();
+        props.setMaxRetries(1);
+        JobScheduler scheduler = new JobScheduler(storage, registry, unreachable, executor, props);
+        storage.submit(Job.builder("job-1", "render", "pdf").build());
+
+        List<RecordedEvent> events = RecordedEvents.during(() -> {
+            scheduler.pollAndDispatch(); // retry 1 of 1
+            scheduler.pollAndDispatch(); // gives up
+        }, WorkerSelectionEvent.class, RetryDecisionEvent.class);
+
+        assertEquals(JobStatus.FAILED, storage.findById("job-1").getStatus());
+        List<RecordedEvent> selections = RecordedEvents.ofType(events, WorkerSelectionEvent.class);
+        assertEquals(2, selections.size());
+        assertEquals("http://w1:8080", selections.get(0).getString("workerUrl"));
+        List<RecordedEvent> decisions = RecordedEvents.ofType(events, RetryDecisionEvent.class);
+        assertEquals(2, decisions.size());
+        assertFalse(decisions.get(0).getBoolean("gaveUp"));
+        assertEquals(1, decisions.get(0).getInt("retryCount"));
+        assertTrue(decisions.get(1).getBoolean("gaveUp"));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.github.distributedjobscheduler.scheduler;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.MisfirePolicy;
+import com.github.distributedjobscheduler.model.RecurringJobDefinition;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryRecurringJobStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RecurringJobEngineTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemoryRecurringJobStorage recurringStorage = new InMemoryRecurringJobStorage();
+    private final InMemoryJobStorage jobStorage = new InMemoryJobStorage();
+    private final SchedulerProperties.Recurring props = new SchedulerProperties.Recurring();
+
+    private SchedulerTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new SchedulerTaskExecutor(1, "test-recurring-", 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tick_materializesEachFixedRateFireOnce() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("refresh", "cache refresh", "cache-refresh")
+                .fixedRate(Duration.ofMinutes(1))
+                .build());
+
+        for (int minute = 1; minute <= 3; minute++) {
+            clock.advance(Duration.ofMinutes(1));
+            engine.tick();
+            engine.tick(); // a second tick at the same instant must not fire again
+        }
+
+        assertEquals(3, jobStorage.findAll().size());
+    }
+
+    @Test
+    void materializedJob_isStampedWithItsFireTime() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("refresh", "cache refresh", "cache-refresh")
+                .fixedRate(Duration.ofMinutes(1))
+                .build());
+        Instant due = recurringStorage.getNextFireTime("refresh");
+
+        clock.advance(Duration.ofMinutes(1).plusSeconds(5));
+        engine.tick();
+
+        // the engine runs on a virtual clock in tests and simulations; wall time must not leak in
+        Job job = jobStorage.findAll().get(0);
+        assertEquals(due, job.getCreatedAt());
+        assertEquals(due, job.getUpdatedAt(), "queue wait is measured from updatedAt");
+    }
+
+    @Test
+    void twoNodesSharingStorage_materializeEachFireExactlyOnce() {
+        RecurringJobEngine nodeA = engine();
+        RecurringJobEngine nodeB = engine();
+        nodeA.register(RecurringJobDefinition.builder("report", "nightly report", "pdf")
+                .cron("0 0 2 * * *")
+                .zone(ZoneId.of("Europe/Berlin"))
+                .build());
+        nodeB.resync();
+
+        clock.advance(Duration.ofDays(1));
+        nodeB.tick();
+        nodeA.tick();
+
+        List<Job> jobs = jobStorage.findAll();
+        assertEquals(1, jobs.size());
+        // 02:00 Berlin (CET, UTC+1) on Jan 1st
+        assertEquals("report@" + Instant.parse("2026-01-01T01:00:00Z").toEpochMilli(), jobs.get(0).getJobId());
+    }
+
+    @Test
+    void failedSave_leavesTheScheduleForTheNextTick() {
+        InMemoryJobStorage flakyStorage = new InMemoryJobStorage() {
+            private boolean failed;
+
+            @Override
+            public void save(Job job) {
+                if (!failed) {
+                    failed = true;
+                    throw new IllegalStateException("storage unavailable");
+                }
+                super.save(job);
+            }
+        };
+        RecurringJobEngine engine = new RecurringJobEngine(recurringStorage, flakyStorage, executor, props, clock);
+        engine.register(RecurringJobDefinition.builder("refresh", "cache refresh", "cache-refresh")
+                .fixedRate(Duration.ofMinutes(1))
+                .build());
+        Instant due = recurringStorage.getNextFireTime("refresh");
+
+        clock.advance(Duration.ofMinutes(1));
+        engine.tick();
+        assertEquals(0, flakyStorage.findAll().size());
+        assertEquals(due, recurringStorage.getNextFireTime("refresh"), "the schedule must not advance past an unsaved fire");
+
+        engine.tick();
+        assertEquals(List.of("refresh@" + due.toEpochMilli()),
+                flakyStorage.findAll().stream().map(Job::getJobId).toList());
+        assertEquals(due.plus(Duration.ofMinutes(1)), recurringStorage.getNextFireTime("refresh"));
+    }
+
+    @Test
+    void reRegistering_replacesTheHeapEntry() {
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryRecurringJobStorage countingStorage = new InMemoryRecurringJobStorage() {
+            @Override
+            public RecurringJobDefinition findById(String id) {
+                lookups.incrementAndGet();
+                return super.findById(id);
+            }
+        };
+        RecurringJobEngine engine = new RecurringJobEngine(countingStorage, jobStorage, executor, props, clock);
+        for (int i = 0; i < 3; i++) {
+            engine.register(RecurringJobDefinition.builder("refresh", "cache refresh", "cache-refresh")
+                    .fixedRate(Duration.ofMinutes(1))
+                    .build());
+        }
+
+        clock.advance(Duration.ofMinutes(1));
+        engine.tick();
+
+        assertEquals(1, lookups.get(), "only the latest registration may be due");
+        assertEquals(1, jobStorage.findAll().size());
+    }
+
+    @Test
+    void misfire_catchUpFiresEveryMissedTime() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("ping", "ping", "webhook")
+                .fixedRate(Duration.ofMinutes(1))
+                .misfirePolicy(MisfirePolicy.CATCH_UP)
+                .build());
+
+        clock.advance(Duration.ofMinutes(10).plusSeconds(30)); // downtime
+        engine.tick();
+
+        assertEquals(10, jobStorage.findAll().size());
+    }
+
+    @Test
+    void misfire_fireOnceCollapsesMissedTimes() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("ping", "ping", "webhook")
+                .fixedRate(Duration.ofMinutes(1))
+                .misfirePolicy(MisfirePolicy.FIRE_ONCE)
+                .build());
+
+        clock.advance(Duration.ofMinutes(10).plusSeconds(30));
+        engine.tick();
+        assertEquals(1, jobStorage.findAll().size());
+
+        clock.advance(Duration.ofSeconds(30)); // back on the original phase
+        engine.tick();
+        assertEquals(2, jobStorage.findAll().size());
+    }
+
+    @Test
+    void misfire_skipDropsMissedTimes() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("ping", "ping", "webhook")
+                .fixedRate(Duration.ofMinutes(1))
+                .misfirePolicy(MisfirePolicy.SKIP)
+                .build());
+
+        clock.advance(Duration.ofMinutes(10).plusSeconds(30));
+        engine.tick();
+
+        assertEquals(0, jobStorage.findAll().size());
+    }
+
+    @Test
+    void lateTick_isNotAMisfire() {
+        RecurringJobEngine engine = engine();
+        engine.register(RecurringJobDefinition.builder("ping", "ping", "webhook")
+                .fixedRate(Duration.ofMinutes(1))
+                .misfirePolicy(MisfirePolicy.SKIP)
+                .build());
+
+        // the tick runs well past the misfire threshold, but no full period was missed
+        clock.advance(Duration.ofMinutes(1).plusSeconds(20));
+        engine.tick();
+
+        assertEquals(1, jobStorage.findAll().size());
+    }
+
+    @Test
+    void ownSchedulingThread_keepsTickingWhileSharedExecutorIsBlocked() throws InterruptedException {
+        props.setTickIntervalMs(10);
+        RecurringJobEngine engine = new RecurringJobEngine(recurringStorage, jobStorage, props, clock, "test-recurring-own-", 1000L);
+        engine.register(RecurringJobDefinition.builder("ping", "ping", "webhook")
+                .fixedRate(Duration.ofMinutes(1))
+                .build());
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(); // a dispatch blocking the poll loop's thread
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            engine.start();
+            clock.advance(Duration.ofMinutes(1));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (jobStorage.findAll().isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, jobStorage.findAll().size());
+        } finally {
+            release.countDown();
+            engine.shutdown();
+        }
+    }
+
+    private RecurringJobEngine engine() {
+        return new RecurringJobEngine(recurringStorage, jobStorage, executor, props, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
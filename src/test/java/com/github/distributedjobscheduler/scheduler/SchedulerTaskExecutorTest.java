@@ -1,5 +1,6 @@
 package com.github.distributedjobscheduler.scheduler;
 
+import com.github.distributedjobscheduler.config.SchedulerProperties;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SchedulerTaskExecutorTest {
@@ -83,4 +85,58 @@ public class SchedulerTaskExecutorTest {
         assertEquals(afterShutdownCount, finalCount, "Counter should not increase after shutdown");
         assertTrue(finalCount >= 1, "Counter should have at least one increment from before shutdown");
     }
+
+    @Test
+    void virtualMode_runsEachDispatchOnItsOwnThreadOrFallsBackOnOldRuntimes() throws InterruptedException {
+        executor = new SchedulerTaskExecutor(1, "test-scheduler-", 2000L, SchedulerProperties.ExecutionMode.VIRTUAL);
+
+        if (Runtime.version().feature() < 21) {
+            assertEquals(false, executor.isAsyncDispatch());
+            assertThrows(IllegalStateException.class, () -> executor.dispatch(() -> { }));
+            return;
+        }
+        assertTrue(executor.isAsyncDispatch());
+
+        // far more blocking calls than platform threads in the pool, all sleeping at once
+        int tasks = 2_000;
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger wrongThread = new AtomicInteger();
+        for (int i = 0; i < tasks; i++) {
+            executor.dispatch(() -> {
+                if (!Thread.currentThread().getName().startsWith("test-scheduler-dispatch-")) {
+                    wrongThread.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(2, TimeUnit.SECONDS), "Dispatches should run concurrently, not one per pool thread");
+        assertEquals(0, wrongThread.get());
+    }
+
+    @Test
+    void shutdown_waitsForInFlightDispatches() throws InterruptedException {
+        executor = new SchedulerTaskExecutor(1, "test-scheduler-", 2000L, SchedulerProperties.ExecutionMode.VIRTUAL);
+        if (!executor.isAsyncDispatch()) {
+            return; // no dispatch executor before Java 21
+        }
+        AtomicInteger finished = new AtomicInteger();
+        executor.dispatch(() -> {
+            try {
+                Thread.sleep(200);
+                finished.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        executor.shutdown();
+
+        assertEquals(1, finished.get());
+    }
 }
@@ -0,0 +1,74 @@
+package com.github.distributedjobscheduler.scheduler.hedging;
+
+import com.github.distributedjobscheduler.config.SchedulerProperties;
+import com.github.distributedjobscheduler.model.Job;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgePolicyTest {
+
+    @Test
+    void stragglerThreshold_waitsForMinSamplesThenUsesPercentile() {
+        HedgePolicy policy = new HedgePolicy(config(0.1));
+        Job job = Job.builder("job-1", "render", "pdf").idempotent(true).build();
+
+        for (int i = 1; i <= 9; i++) {
+            policy.recordSuccess(job, i * 100L);
+            assertEquals(-1, policy.stragglerThresholdMs("pdf"), "not enough samples yet");
+        }
+        policy.recordSuccess(job, 1_000L);
+
+        assertEquals(900, policy.stragglerThresholdMs("pdf")); // p90 of 100..1000
+        assertEquals(-1, policy.stragglerThresholdMs("csv"));
+    }
+
+    @Test
+    void recordSuccess_ignoresTypesThatAreNotHedged() {
+        HedgePolicy policy = new HedgePolicy(config(0.1));
+        Job csv = Job.builder("job-1", "export", "csv").idempotent(true).build();
+        for (int i = 0; i < 20; i++) {
+            policy.recordSuccess(csv, 50L);
+        }
+
+        assertEquals(-1, policy.stragglerThresholdMs("csv"));
+    }
+
+    @Test
+    void withinBudget_neverExceedsConfiguredFraction() {
+        HedgePolicy policy = new HedgePolicy(config(0.1));
+
+        assertFalse(policy.withinBudget(0, 1), "one job in flight must not allow a 100% hedge fraction");
+        assertFalse(policy.withinBudget(0, 9));
+        assertTrue(policy.withinBudget(0, 10));
+        assertFalse(policy.withinBudget(1, 19));
+        assertTrue(policy.withinBudget(1, 20));
+    }
+
+    @Test
+    void isEligible_onlyIdempotentJobsOfListedTypes() {
+        HedgePolicy policy = new HedgePolicy(config(0.1));
+
+        assertTrue(policy.isEligible(Job.builder("a", "render", "pdf").idempotent(true).build()));
+        assertFalse(policy.isEligible(Job.builder("b", "render", "pdf").build()));
+        assertFalse(policy.isEligible(Job.builder("c", "export", "csv").idempotent(true).build()));
+
+        SchedulerProperties.Hedging disabled = config(0.1);
+        disabled.setEnabled(false);
+        assertFalse(new HedgePolicy(disabled).isEligible(Job.builder("a", "render", "pdf").idempotent(true).build()));
+    }
+
+    private static SchedulerProperties.Hedging config(double maxHedgeFraction) {
+        SchedulerProperties.Hedging hedging = new SchedulerProperties.Hedging();
+        hedging.setEnabled(true);
+        hedging.setTypes(List.of("pdf"));
+        hedging.setPercentile(0.9);
+        hedging.setMinSamples(10);
+        hedging.setMaxHedgeFraction(maxHedgeFraction);
+        return hedging;
+    }
+}
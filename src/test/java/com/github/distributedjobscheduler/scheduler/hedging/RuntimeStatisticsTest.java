@@ -0,0 +1,34 @@
+package com.github.distributedjobscheduler.scheduler.hedging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RuntimeStatisticsTest {
+
+    @Test
+    void percentile_coversOnlyTheMostRecentWindow() {
+        RuntimeStatistics statistics = new RuntimeStatistics(4);
+        for (long runtime : new long[]{900, 800, 30, 10, 40, 20}) {
+            statistics.record("pdf", runtime);
+        }
+
+        // 900 and 800 have been overwritten; the window holds 30, 10, 40, 20
+        assertEquals(4, statistics.sampleCount("pdf"));
+        assertEquals(20, statistics.percentile("pdf", 0.5));
+        assertEquals(40, statistics.percentile("pdf", 1.0));
+        assertEquals(10, statistics.percentile("pdf", 0.01));
+    }
+
+    @Test
+    void typesAreTrackedSeparately() {
+        RuntimeStatistics statistics = new RuntimeStatistics(16);
+        statistics.record("pdf", 100);
+        statistics.record("csv", 5);
+
+        assertEquals(100, statistics.percentile("pdf", 0.95));
+        assertEquals(5, statistics.percentile("csv", 0.95));
+        assertEquals(0, statistics.sampleCount("png"));
+        assertEquals(-1, statistics.percentile("png", 0.95));
+    }
+}
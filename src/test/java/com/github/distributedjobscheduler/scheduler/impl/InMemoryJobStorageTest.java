@@ -0,0 +1,52 @@
+package com.github.distributedjobscheduler.scheduler.impl;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryJobStorageTest {
+
+    private final InMemoryJobStorage storage = new InMemoryJobStorage();
+
+    @Test
+    void firstTerminalStatusWins() {
+        storage.submit(Job.builder("job-1", "render", "pdf").build());
+        storage.submit(Job.builder("child", "upload", "pdf").parentJobIds(List.of("job-1")).build());
+        List<JobStatus> notified = new ArrayList<>();
+        storage.addStatusListener((job, previous, current) -> {
+            if (job.getJobId().equals("job-1")) {
+                notified.add(current);
+            }
+        });
+
+        storage.updateStatus("job-1", JobStatus.IN_PROGRESS);
+        storage.updateStatus("job-1", JobStatus.SUCCESS);
+        storage.updateStatus("job-1", JobStatus.FAILED);      // hedged loser reporting late
+        storage.updateStatus("job-1", JobStatus.IN_PROGRESS); // late dispatch acknowledgement
+
+        assertEquals(JobStatus.SUCCESS, storage.findById("job-1").getStatus());
+        assertEquals(List.of(JobStatus.IN_PROGRESS, JobStatus.SUCCESS), notified);
+        assertEquals(JobStatus.QUEUED, storage.findById("child").getStatus(), "child must not be failed by the loser");
+    }
+
+    @Test
+    void updateStatusIf_appliesOnlyFromExpectedStatuses() {
+        storage.submit(Job.builder("job-1", "render", "pdf").build());
+
+        storage.updateStatus("job-1", JobStatus.SUCCESS); // fast worker reported before dispatch returned
+        assertFalse(storage.updateStatusIf("job-1", EnumSet.of(JobStatus.QUEUED, JobStatus.RETRY), JobStatus.IN_PROGRESS));
+        assertEquals(JobStatus.SUCCESS, storage.findById("job-1").getStatus());
+
+        storage.submit(Job.builder("job-2", "render", "pdf").build());
+        assertTrue(storage.updateStatusIf("job-2", EnumSet.of(JobStatus.QUEUED, JobStatus.RETRY), JobStatus.IN_PROGRESS));
+        assertEquals(JobStatus.IN_PROGRESS, storage.findById("job-2").getStatus());
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.distributedjobscheduler.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimulationTest {
+
+    @Test
+    void sameSeed_producesIdenticalReport() {
+        SimulationReport first = new Simulation(config(7L)).run();
+        SimulationReport second = new Simulation(config(7L)).run();
+
+        assertEquals(first, second);
+        assertNotEquals(first, new Simulation(config(8L)).run());
+    }
+
+    @Test
+    void hoursOfVirtualTime_finishQuickly() {
+        SimulationConfig config = config(1L);
+        config.setDuration(Duration.ofHours(2));
+
+        SimulationReport report = new Simulation(config).run();
+
+        assertTrue(report.getSimulatedSeconds() >= 2 * 3600, report.toString());
+        assertEquals(report.getSubmitted(), report.getSucceeded() + report.getFailed(), report.toString());
+        assertTrue(report.getWallClockMillis() < 30_000, report.toString());
+    }
+
+    @Test
+    void crashesAndDispatchErrors_surfaceAsLostJobsAndRetries() {
+        SimulationConfig config = config(3L);
+        SimulationConfig.WorkerGroup group = config.getWorkerGroups().get(0);
+        group.setDispatchErrorRate(0.2);
+        group.setMeanTimeBetweenCrashesMs(Duration.ofMinutes(10).toMillis());
+        group.setHeartbeatLossRate(0.3);
+
+        SimulationReport report = new Simulation(config).run();
+
+        assertTrue(report.getWorkerCrashes() > 0, report.toString());
+        assertTrue(report.getLost() > 0, report.toString());
+        assertTrue(report.getRetries() > 0, report.toString());
+        assertEquals(report.getSubmitted(),
+                report.getSucceeded() + report.getFailed() + report.getLost() + report.getIncomplete());
+    }
+
+    private static SimulationConfig config(long seed) {
+        SimulationConfig config = new SimulationConfig();
+        config.setSeed(seed);
+        config.setDuration(Duration.ofMinutes(30));
+        config.setArrivalRatePerSec(0.5);
+        config.getScheduler().setPollIntervalMs(1_000);
+        config.getWorkerGroups().get(0).setServiceTime("lognormal:2000,0.6");
+        return config;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.distributedjobscheduler.storage.blob;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import com.github.distributedjobscheduler.storage.dedup.IdempotencyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PayloadOffloaderTest {
+
+    @TempDir
+    Path blobDir;
+
+    private PayloadOffloader offloader;
+
+    @BeforeEach
+    void setUp() {
+        offloader = new PayloadOffloader(new MappedFileBlobStore(blobDir), JsonMapper.builder().build(), 64);
+    }
+
+    @Test
+    void offload_keepsSmallPayloadInline() {
+        Job job = Job.builder("job-1", "small", "email")
+                .payload(Map.of("to", "a@b.c"))
+                .build();
+
+        assertSame(job, offloader.offload(job));
+    }
+
+    @Test
+    void offload_movesLargePayloadToBlobStoreAndMaterializesIt() {
+        Map<String, Object> payload = Map.of("report", "x".repeat(1_000));
+        Job job = Job.builder("job-2", "large", "pdf")
+                .payload(payload)
+                .build();
+
+        Job offloaded = offloader.offload(job);
+
+        assertTrue(offloaded.isPayloadOffloaded());
+        assertTrue(offloaded.getPayload().isEmpty());
+        assertEquals(payload, offloader.materialize(offloaded));
+    }
+
+    @Test
+    void materialize_rejectsCorruptedBlob() throws Exception {
+        Job offloaded = offloader.offload(Job.builder("job-3", "large", "pdf")
+                .payload(Map.of("report", "y".repeat(1_000)))
+                .build());
+
+        Path blob = blobDir.resolve(offloaded.getPayloadRef().getBlobId() + ".blob");
+        byte[] bytes = Files.readAllBytes(blob);
+        bytes[bytes.length / 2] = 'z';
+        Files.write(blob, bytes);
+
+        assertThrows(IllegalStateException.class, () -> offloader.materialize(offloaded));
+    }
+
+    @Test
+    void discard_removesBlob() {
+        Job offloaded = offloader.offload(Job.builder("job-4", "large", "pdf")
+                .payload(Map.of("report", "z".repeat(1_000)))
+                .build());
+
+        offloader.discard(offloaded);
+
+        assertFalse(Files.exists(blobDir.resolve(offloaded.getPayloadRef().getBlobId() + ".blob")));
+    }
+
+    @Test
+    void duplicateSubmission_doesNotLeaveAnOrphanBlob() throws Exception {
+        OffloadingJobStorage storage = new OffloadingJobStorage(
+                new InMemoryJobStorage(new IdempotencyIndex(1_000, 60_000, 0.01, Clock.systemUTC())), offloader);
+        Map<String, Object> payload = Map.of("report", "r".repeat(1_000));
+
+        assertTrue(storage.submit(Job.builder("job-5", "large", "pdf").payload(payload).idempotencyKey("evt-1").build()));
+        assertFalse(storage.submit(Job.builder("job-6", "large", "pdf").payload(payload).idempotencyKey("evt-1").build()));
+
+        try (Stream<Path> blobs = Files.list(blobDir)) {
+            assertEquals(1, blobs.count());
+        }
+    }
+
+    @Test
+    void upsert_keepsTheStoredBlobAndDeletesAReplacedOne() throws Exception {
+        OffloadingJobStorage storage = new OffloadingJobStorage(new InMemoryJobStorage(), offloader);
+        storage.submit(Job.builder("job-7", "large", "pdf").payload(Map.of("report", "a".repeat(1_000))).build());
+        Job stored = storage.findById("job-7");
+
+        storage.save(stored); // already offloaded: no second blob
+        assertEquals(stored.getPayloadRef(), storage.findById("job-7").getPayloadRef());
+        assertEquals(1, blobCount());
+
+        storage.save(Job.builder("job-7", "large", "pdf").payload(Map.of("report", "b".repeat(1_000))).build());
+        assertEquals(1, blobCount(), "the replaced payload's blob must be deleted");
+        assertEquals("b".repeat(1_000), offloader.materialize(storage.findById("job-7")).get("report"));
+    }
+
+    @Test
+    void cascadedFailure_discardsBlobsOfDependentJobs() throws Exception {
+        OffloadingJobStorage storage = new OffloadingJobStorage(new InMemoryJobStorage(), offloader);
+        Map<String, Object> payload = Map.of("report", "c".repeat(1_000));
+        storage.submit(Job.builder("parent", "large", "pdf").payload(payload).build());
+        storage.submit(Job.builder("child", "large", "pdf").payload(payload).parentJobIds(List.of("parent")).build());
+        storage.submit(Job.builder("grandchild", "large", "pdf").payload(payload).parentJobIds(List.of("child")).build());
+
+        storage.updateStatus("parent", JobStatus.FAILED);
+
+        assertEquals(JobStatus.FAILED, storage.findById("grandchild").getStatus());
+        try (Stream<Path> blobs = Files.list(blobDir)) {
+            assertEquals(0, blobs.count());
+        }
+    }
+
+    private long blobCount() throws Exception {
+        try (Stream<Path> blobs = Files.list(blobDir)) {
+            return blobs.count();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.distributedjobscheduler.storage.dag;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.model.JobStatus;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DependencyTrackerTest {
+
+    private final InMemoryJobStorage storage = new InMemoryJobStorage();
+
+    @Test
+    void child_waitsForAllParentsThenBecomesQueued() {
+        storage.submit(job("render"));
+        storage.submit(job("thumbnail"));
+        storage.submit(job("upload", "render", "thumbnail"));
+
+        assertEquals(JobStatus.WAITING, status("upload"));
+        assertEquals(2, storage.getPendingJobs().size());
+
+        storage.updateStatus("render", JobStatus.SUCCESS);
+        assertEquals(JobStatus.WAITING, status("upload"));
+
+        List<String> released = new ArrayList<>();
+        storage.addStatusListener((job, previous, current) -> {
+            if (previous == JobStatus.WAITING) {
+                released.add(job.getJobId());
+            }
+        });
+        storage.updateStatus("thumbnail", JobStatus.SUCCESS);
+        assertEquals(JobStatus.QUEUED, status("upload"));
+        assertEquals(List.of("upload"), released);
+    }
+
+    @Test
+    void failure_cascadesThroughLongChainWithoutRecursion() {
+        storage.submit(job("n0"));
+        for (int i = 1; i < 10_000; i++) {
+            storage.submit(job("n" + i, "n" + (i - 1)));
+        }
+
+        storage.updateStatus("n0", JobStatus.FAILED);
+
+        assertEquals(JobStatus.FAILED, status("n9999"));
+    }
+
+    @Test
+    void parentsAlreadyFinished_decideInitialStatus() {
+        storage.submit(job("ok"));
+        storage.submit(job("broken"));
+        storage.updateStatus("ok", JobStatus.SUCCESS);
+        storage.updateStatus("broken", JobStatus.FAILED);
+
+        storage.submit(job("ready", "ok"));
+        storage.submit(job("doomed", "ok", "broken"));
+
+        assertEquals(JobStatus.QUEUED, status("ready"));
+        assertEquals(JobStatus.FAILED, status("doomed"));
+    }
+
+    @Test
+    void fanOutFanIn_releasesJoinOnlyOnce() {
+        storage.submit(job("split"));
+        List<String> branches = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            branches.add("branch-" + i);
+            storage.submit(job("branch-" + i, "split"));
+        }
+        storage.submit(Job.builder("join", "join", "merge").parentJobIds(branches).build());
+
+        storage.updateStatus("split", JobStatus.SUCCESS);
+        assertEquals(1_000, storage.getPendingJobs().size());
+        for (String branch : branches) {
+            storage.updateStatus(branch, JobStatus.SUCCESS);
+        }
+
+        assertEquals(JobStatus.QUEUED, status("join"));
+        assertEquals(1, storage.getPendingJobs().size());
+    }
+
+    @Test
+    void concurrentPoll_neverSeesChildBeforeItsParentsFinish() throws InterruptedException {
+        storage.submit(job("parent"));
+        AtomicBoolean submitting = new AtomicBoolean(true);
+        AtomicInteger earlyChildren = new AtomicInteger();
+        Thread poller = new Thread(() -> {
+            while (submitting.get()) {
+                for (Job pending : storage.getPendingJobs()) {
+                    if (!pending.getJobId().equals("parent")) {
+                        earlyChildren.incrementAndGet();
+                    }
+                }
+            }
+        });
+        poller.start();
+
+        for (int i = 0; i < 20_000; i++) {
+            storage.submit(job("child-" + i, "parent"));
+        }
+        submitting.set(false);
+        poller.join();
+
+        assertEquals(0, earlyChildren.get(), "a child was pollable while its parent was still QUEUED");
+        storage.updateStatus("parent", JobStatus.SUCCESS);
+        assertEquals(20_000, storage.getPendingJobs().size());
+    }
+
+    @Test
+    void parentFinishingDuringChildSubmit_stillReleasesEveryChild() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            InMemoryJobStorage fresh = new InMemoryJobStorage();
+            fresh.submit(job("p"));
+            Thread finisher = new Thread(() -> fresh.updateStatus("p", JobStatus.SUCCESS));
+            finisher.start();
+            for (int i = 0; i < 50; i++) {
+                fresh.submit(job("c" + i, "p"));
+            }
+            finisher.join();
+
+            for (int i = 0; i < 50; i++) {
+                assertEquals(JobStatus.QUEUED, fresh.findById("c" + i).getStatus(), "c" + i + " stuck in round " + round);
+            }
+        }
+    }
+
+    private JobStatus status(String jobId) {
+        return storage.findById(jobId).getStatus();
+    }
+
+    private static Job job(String id, String... parents) {
+        return Job.builder(id, id, "step").parentJobIds(List.of(parents)).build();
+    }
+}
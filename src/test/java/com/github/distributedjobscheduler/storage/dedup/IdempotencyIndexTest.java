@@ -0,0 +1,129 @@
+package com.github.distributedjobscheduler.storage.dedup;
+
+import com.github.distributedjobscheduler.model.Job;
+import com.github.distributedjobscheduler.scheduler.impl.InMemoryJobStorage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdempotencyIndexTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void putIfAbsent_returnsFirstHolderInsideWindow() {
+        IdempotencyIndex index = new IdempotencyIndex(1_000, 60_000, 0.01, clock);
+
+        assertNull(index.putIfAbsent("order-1", "job-1"));
+        assertEquals("job-1", index.putIfAbsent("order-1", "job-2"));
+        assertNull(index.putIfAbsent("order-2", "job-3"));
+    }
+
+    @Test
+    void concurrentSubmitsOfSameKey_acceptExactlyOne() throws Exception {
+        int threads = 8;
+        int keys = 20_000;
+        IdempotencyIndex index = new IdempotencyIndex(keys * 2, 60_000, 0.01, clock);
+        AtomicIntegerArray winners = new AtomicIntegerArray(keys);
+        CyclicBarrier start = new CyclicBarrier(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> submitters = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String jobId = "job-" + t;
+                submitters.add(pool.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < keys; k++) {
+                        if (index.putIfAbsent("order-" + k, jobId) == null) {
+                            winners.incrementAndGet(k);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> submitter : submitters) {
+                submitter.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (int k = 0; k < keys; k++) {
+            assertEquals(1, winners.get(k), "exactly one submit may win order-" + k);
+        }
+    }
+
+    @Test
+    void keysExpireAfterWindow() {
+        IdempotencyIndex index = new IdempotencyIndex(1_000, 60_000, 0.01, clock);
+        index.putIfAbsent("order-1", "job-1");
+
+        clock.millis += 60_001;
+
+        assertNull(index.putIfAbsent("order-1", "job-2"));
+    }
+
+    @Test
+    void memoryIsBoundedByMaxEntries() {
+        IdempotencyIndex index = new IdempotencyIndex(160, 60_000, 0.01, clock);
+        for (int i = 0; i < 10_000; i++) {
+            index.putIfAbsent("key-" + i, "job-" + i);
+        }
+
+        // the oldest keys were evicted, the newest are still remembered
+        assertNull(index.get("key-0"));
+        assertEquals("job-9999", index.get("key-9999"));
+    }
+
+    @Test
+    void storage_dropsDuplicateSubmissionButAllowsUpsert() {
+        InMemoryJobStorage storage = new InMemoryJobStorage(new IdempotencyIndex(1_000, 60_000, 0.01, clock));
+        Job first = Job.builder("job-1", "webhook", "webhook").idempotencyKey("evt-42").build();
+        Job retry = Job.builder("job-2", "webhook", "webhook").idempotencyKey("evt-42").build();
+
+        assertTrue(storage.submit(first));
+        assertFalse(storage.submit(retry));
+        assertTrue(storage.submit(first), "re-saving the same job is an update, not a duplicate");
+        assertEquals(1, storage.findAll().size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}